@@ -0,0 +1,67 @@
+package org.example;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.repository.AuditTrailRepository;
+import org.example.repository.PaymentRepository;
+import org.example.repository.UserRepository;
+import org.example.repository.jdbc.impl.AuditTrailRepositoryImpl;
+import org.example.repository.jdbc.impl.PaymentRepositoryImpl;
+import org.example.repository.jdbc.impl.UserRepositoryImpl;
+import org.example.service.AuditTrailManagementService;
+import org.example.service.PaymentManagementService;
+import org.example.service.UserManagementService;
+import org.example.service.impl.AuditTrailManagementServiceImpl;
+import org.example.service.impl.PaymentManagementServiceImpl;
+import org.example.service.impl.UserManagementServiceImpl;
+import org.example.util.DBConnectionUtil;
+import org.example.util.DBExecutorUtil;
+import org.example.util.SessionRegistry;
+
+/**
+ * Wires the repositories and services once for the life of the application, records the connection pool's
+ * metrics and warms up the pool. Closing it stops the database executor and then the connection pool, so no
+ * query is left running against a closed pool; the pool logs a summary of its metrics as it shuts down.
+ */
+public class ApplicationContext implements AutoCloseable {
+    private final UserManagementService userManagementService;
+    private final PaymentManagementService paymentManagementService;
+    private final AuditTrailManagementService auditTrailManagementService;
+
+    public ApplicationContext() {
+        this(new SimpleMeterRegistry());
+    }
+
+    public ApplicationContext(MeterRegistry meterRegistry) {
+        DBConnectionUtil.setMeterRegistry(meterRegistry);
+        DBConnectionUtil.warmUp();
+
+        UserRepository userRepository = new UserRepositoryImpl();
+        PaymentRepository paymentRepository = new PaymentRepositoryImpl();
+        AuditTrailRepository auditTrailRepository = new AuditTrailRepositoryImpl();
+
+        SessionRegistry sessionRegistry = new SessionRegistry();
+
+        this.userManagementService = new UserManagementServiceImpl(userRepository, sessionRegistry);
+        this.paymentManagementService = new PaymentManagementServiceImpl(paymentRepository, sessionRegistry);
+        this.auditTrailManagementService = new AuditTrailManagementServiceImpl(auditTrailRepository, sessionRegistry);
+    }
+
+    public UserManagementService getUserManagementService() {
+        return userManagementService;
+    }
+
+    public PaymentManagementService getPaymentManagementService() {
+        return paymentManagementService;
+    }
+
+    public AuditTrailManagementService getAuditTrailManagementService() {
+        return auditTrailManagementService;
+    }
+
+    @Override
+    public void close() {
+        DBExecutorUtil.shutdown();
+        DBConnectionUtil.shutdown();
+    }
+}
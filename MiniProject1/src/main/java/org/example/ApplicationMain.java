@@ -1,23 +1,33 @@
 package org.example;
 
 import org.example.model.UserLifeCycleManagementResponse;
+import org.example.model.UserSession;
+import org.example.model.Money;
 import org.example.model.enums.PaymentCategory;
 import org.example.model.enums.PaymentStatus;
 import org.example.model.enums.PaymentType;
 import org.example.model.enums.UserRole;
 import org.example.repository.jdbc.dao.Payment;
 import org.example.service.*;
-import org.example.service.impl.*;
 import org.example.util.PrinterUtil;
 
 import java.util.Scanner;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public class ApplicationMain {
     public static void main(String[] args) {
-        UserManagementService userService = new UserManagementServiceImpl();
+        try (ApplicationContext context = new ApplicationContext()) {
+            run(context);
+        }
+    }
+
+    private static void run(ApplicationContext context) {
+        UserManagementService userService = context.getUserManagementService();
         Scanner in = new Scanner(System.in);
-        String userName = "", password = "";
-        UserRole sessionUserRole = null;
+        String userName, password;
+        UserSession session;
 
         System.out.println("--------------------------------------------------\n     Welcome To Payment Management System     ");
         while (true) {
@@ -27,8 +37,8 @@ public class ApplicationMain {
                 System.out.print("Enter User ID: "); userName = in.nextLine();
                 System.out.print("Enter Password: "); password = in.nextLine();
                 try {
-                    sessionUserRole = userService.verifyUser(userName, password).join();
-                    System.out.println("Login Successful as " + sessionUserRole); break;
+                    session = userService.verifyUser(userName, password).join();
+                    System.out.println("Login Successful as " + session.getRole()); break;
                 } catch (Exception e) { System.out.println("Login Failed: " + e.getMessage()); }
             } else if (answer.equalsIgnoreCase("NO")) {
                 System.out.print("Want to register? (Yes/No): ");
@@ -38,6 +48,7 @@ public class ApplicationMain {
                     try {
                         UserLifeCycleManagementResponse res = userService.createUser(userName, password).join();
                         if ("SUCCESS".equalsIgnoreCase(res.getStatus())) {
+                            session = userService.verifyUser(userName, password).join();
                             System.out.println("User Created Successfully"); break;
                         } else { System.out.println("Failed to create user: " + res.getMessage()); }
                     } catch (Exception e) { System.out.println("Registration Failed: " + e.getMessage()); }
@@ -45,13 +56,15 @@ public class ApplicationMain {
             } else { System.out.println("Invalid input. Please type Yes or No."); }
         }
         clearConsole();
-        handleMenu(sessionUserRole, userName, password, in);
+        handleMenu(context, session, in);
     }
 
-    private static void handleMenu(UserRole role, String userName, String password, Scanner in) {
-        PaymentManagementService paymentService = new PaymentManagementServiceImpl();
-        UserManagementServiceImpl userService = new UserManagementServiceImpl();
-        AuditTrailManagementService auditService = new AuditTrailManagementServiceImpl();
+    private static void handleMenu(ApplicationContext context, UserSession session, Scanner in) {
+        UserRole role = session.getRole();
+        String userName = session.getUserName();
+        PaymentManagementService paymentService = context.getPaymentManagementService();
+        UserManagementService userService = context.getUserManagementService();
+        AuditTrailManagementService auditService = context.getAuditTrailManagementService();
 
         String[][] menus = {
                 {"Update User Role", "View All Payments", "View All Users", "Create New Payment", "Generate Monthly Report", "Generate Quarterly Report", "Exit"},
@@ -72,23 +85,25 @@ public class ApplicationMain {
                     case 1: // Update User Role
                         System.out.print("Enter UserName to update: "); String userToUpdate = in.nextLine();
                         System.out.print("Enter new Role (ADMIN, FINANCE_MANAGER, VIEWER): ");
-                        userService.updateUserRole(userName, password, userToUpdate, in.nextLine().toUpperCase())
-                                .whenComplete((res, t) -> System.out.println(t != null ? "Internal Server Error " + t.getMessage() : res.getMessage()));
+                        await(userService.updateUserRole(session, userToUpdate, in.nextLine().toUpperCase())
+                                .whenComplete((res, t) -> System.out.println(t != null ? "Internal Server Error " + t.getMessage() : res.getMessage())));
                         break;
                     case 2: // View All Payments
-                        paymentService.getAllPayment().whenComplete((res, t) -> {
+                        await(paymentService.getAllPayment().whenComplete((res, t) -> {
                             if (t != null) System.out.println("Internal Server Error " + t.getMessage());
                             PrinterUtil.printPaymentsTable(res.getPayments());
-                        }); break;
+                        })); break;
                     case 3: // View All Users
-                        userService.getAllUsers().whenComplete((res, t) -> {
+                        await(userService.getAllUsers().whenComplete((res, t) -> {
                             if (t != null) System.out.println("Internal Server Error " + t.getMessage());
                             PrinterUtil.printUsersTable(res);
-                        }); break;
+                        })); break;
                     case 4: // Create New Payment
                         Payment payment = new Payment();
                         System.out.print("Payment ID: "); payment.setId(in.nextLine());
-                        System.out.print("Amount: "); payment.setAmount(in.nextLine());
+                        System.out.print("Amount: ");
+                        try { payment.setAmount(Money.parse(in.nextLine())); }
+                        catch (IllegalArgumentException e) { System.out.println("Payment Request Is Invalid: " + e.getMessage()); break; }
                         System.out.print("Currency: "); payment.setCurrency(in.nextLine());
                         System.out.print("Account Name: "); payment.setAccountName(in.nextLine());
                         System.out.print("Status (PENDING, COMPLETED, FAILED): ");
@@ -98,78 +113,78 @@ public class ApplicationMain {
                         System.out.print("Payment Category (SALARY, INVOICE, REFUND, VENDOR_SETTLEMENT): ");
                         payment.setCategory(PaymentCategory.valueOf(in.nextLine().toUpperCase()));
                         payment.setUserName(userName);
-                        paymentService.createPaymentRecord(payment, userName, password)
+                        await(paymentService.createPaymentRecord(payment, session)
                                 .whenComplete((res, t) -> {
                                     if (t != null) System.out.println("Internal Server Error " + t.getMessage());
                                     else System.out.println(res.getMessage());
-                                }); break;
+                                })); break;
                     case 5: // Monthly Report
                         System.out.print("Enter Month (1-12): "); int month = in.nextInt();
                         System.out.print("Enter Year (e.g., 2023): "); int year = in.nextInt(); in.nextLine();
-                        paymentService.generateMonthlyReport(month, year)
+                        await(paymentService.generateMonthlyReport(month, year)
                                 .whenComplete((res, t) -> {
                                     if (t != null) System.out.println("Internal Server Error " + t.getMessage());
                                     else PrinterUtil.printReport(res);
-                                }); break;
+                                })); break;
                     case 6: // Quarterly Report
                         System.out.print("Enter Quarter (1-4): "); int quarter = in.nextInt();
                         System.out.print("Enter Year (e.g., 2023): "); int qYear = in.nextInt(); in.nextLine();
-                        paymentService.generateQuarterlyReport(quarter, qYear)
+                        await(paymentService.generateQuarterlyReport(quarter, qYear)
                                 .whenComplete((res, t) -> {
                                     if (t != null) System.out.println("Internal Server Error " + t.getMessage());
                                     else PrinterUtil.printReport(res);
-                                }); break;
+                                })); break;
                     case 7: System.out.println("Exiting..."); return;
                     default: System.out.println("Invalid choice. Please try again.");
                 }
             } else if (role == UserRole.FINANCE_MANAGER) {
                 switch (choice) {
-                    case 1: paymentService.getAllPayment().whenComplete((res, t) -> {
+                    case 1: await(paymentService.getAllPayment().whenComplete((res, t) -> {
                         if (t != null) System.out.println("Internal Server Error " + t.getMessage());
                         PrinterUtil.printPaymentsTable(res.getPayments());
-                    }); break;
-                    case 2: userService.getAllUsers().whenComplete((res, t) -> {
+                    })); break;
+                    case 2: await(userService.getAllUsers().whenComplete((res, t) -> {
                         if (t != null) System.out.println("Internal Server Error " + t.getMessage());
                         PrinterUtil.printUsersTable(res);
-                    }); break;
+                    })); break;
                     case 3:
                         System.out.print("Payment Id to update status : "); String paymentId = in.nextLine();
                         System.out.print("Enter new Status (PENDING, COMPLETED, FAILED): ");
-                        paymentService.updatePayment(paymentId, userName, password, in.nextLine().toUpperCase())
-                                .whenComplete((res, t) -> System.out.println(t != null ? "Internal Server Error " + t.getMessage() : res.getMessage()));
+                        await(paymentService.updatePayment(paymentId, session, in.nextLine().toUpperCase())
+                                .whenComplete((res, t) -> System.out.println(t != null ? "Internal Server Error " + t.getMessage() : res.getMessage())));
                         break;
                     case 4:
                         System.out.print("Enter Month (1-12): "); int month = in.nextInt();
                         System.out.print("Enter Year (e.g., 2023): "); int year = in.nextInt(); in.nextLine();
-                        paymentService.generateMonthlyReport(month, year)
+                        await(paymentService.generateMonthlyReport(month, year)
                                 .whenComplete((res, t) -> {
                                     if (t != null) System.out.println("Internal Server Error " + t.getMessage());
                                     else PrinterUtil.printReport(res);
-                                }); break;
+                                })); break;
                     case 5:
                         System.out.print("Enter Quarter (1-4): "); int quarter = in.nextInt();
                         System.out.print("Enter Year (e.g., 2023): "); int qYear = in.nextInt(); in.nextLine();
-                        paymentService.generateQuarterlyReport(quarter, qYear)
+                        await(paymentService.generateQuarterlyReport(quarter, qYear)
                                 .whenComplete((res, t) -> {
                                     if (t != null) System.out.println("Internal Server Error " + t.getMessage());
                                     else PrinterUtil.printReport(res);
-                                }); break;
+                                })); break;
                     case 6:
                         System.out.print("Enter Payment ID to get logs: "); String paymentIdForLogs = in.nextLine();
-                        auditService.getAuditTrailById(paymentIdForLogs, userName, password)
+                        await(auditService.getAuditTrailById(paymentIdForLogs, session)
                                 .whenComplete((res, t) -> {
                                     if (t != null) System.out.println("Internal Server Error " + t.getMessage());
                                     else PrinterUtil.printPaymentsAuditTable(res);
-                                }); break;
+                                })); break;
                     case 7: System.out.println("Exiting..."); return;
                     default: System.out.println("Invalid choice. Please try again.");
                 }
             } else if (role == UserRole.VIEWER) {
                 switch (choice) {
-                    case 1: paymentService.getAllPayment().whenComplete((res, t) -> {
+                    case 1: await(paymentService.getAllPayment().whenComplete((res, t) -> {
                         if (t != null) System.out.println("Internal Server Error " + t.getMessage());
                         PrinterUtil.printPaymentsTable(res.getPayments());
-                    }); break;
+                    })); break;
                     case 2: System.out.println("Exiting..."); return;
                     default: System.out.println("Invalid choice. Please try again.");
                 }
@@ -177,6 +192,14 @@ public class ApplicationMain {
         }
     }
 
+    // Results are printed by the future's own callback; waiting keeps them ahead of the next menu prompt.
+    private static void await(CompletableFuture<?> result) {
+        try {
+            result.join();
+        } catch (CompletionException | CancellationException ignored) {
+        }
+    }
+
     public static void clearConsole() {
         for (int i = 0; i < 45; i++) System.out.println();
     }
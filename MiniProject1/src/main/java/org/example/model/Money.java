@@ -0,0 +1,60 @@
+package org.example.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Fixed-point amount held as a count of minor units (two decimal places). Amounts are parsed once when they
+ * are entered and stored in payment_details.amount_minor.
+ */
+public final class Money {
+    public static final int SCALE = 2;
+    private static final long MINOR_PER_MAJOR = 100L;
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return new Money(minorUnits);
+    }
+
+    public static Money parse(String amount) {
+        if (amount == null || amount.isBlank()) {
+            throw new IllegalArgumentException("Amount must not be empty");
+        }
+        try {
+            return new Money(new BigDecimal(amount.trim()).movePointRight(SCALE).longValueExact());
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new IllegalArgumentException("Invalid amount: " + amount, e);
+        }
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public static String format(long minorUnits) {
+        long abs = Math.abs(minorUnits);
+        long fraction = abs % MINOR_PER_MAJOR;
+        return (minorUnits < 0 ? "-" : "") + abs / MINOR_PER_MAJOR + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Money)) return false;
+        return minorUnits == ((Money) o).minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return format(minorUnits);
+    }
+}
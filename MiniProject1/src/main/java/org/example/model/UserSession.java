@@ -0,0 +1,40 @@
+package org.example.model;
+
+import org.example.model.enums.UserRole;
+
+/**
+ * A login verified once against user_details. Services check the role held here instead of re-reading the user
+ * and re-running BCrypt for every action. A session ends when it expires or when the user's role is changed.
+ */
+public class UserSession {
+    private final String userName;
+    private final UserRole role;
+    private final long expiresAt;
+    private volatile boolean invalidated;
+
+    public UserSession(String userName, UserRole role, long expiresAt) {
+        this.userName = userName;
+        this.role = role;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isActive() {
+        return !invalidated && System.currentTimeMillis() < expiresAt;
+    }
+
+    public void invalidate() {
+        invalidated = true;
+    }
+}
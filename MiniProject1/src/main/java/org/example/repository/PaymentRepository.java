@@ -1,6 +1,7 @@
 package org.example.repository;
 
 import org.example.model.enums.PaymentStatus;
+import org.example.repository.jdbc.dao.MonthlyPaymentTotal;
 import org.example.repository.jdbc.dao.Payment;
 
 import java.util.List;
@@ -12,4 +13,5 @@ public interface PaymentRepository {
     CompletableFuture<Void> updatePaymentStatus(String id, PaymentStatus status, String userName);
     CompletableFuture<List<Payment>> getAllPayments();
     CompletableFuture<List<Payment>> findPaymentsBetween(Long startDate, Long endDate);
+    CompletableFuture<List<MonthlyPaymentTotal>> sumPaymentsByMonth(Long startDate, Long endDate);
 }
@@ -2,7 +2,7 @@ package org.example.repository.jdbc.constants;
 
 public class AuditTrailQueryConstant {
     public static final String PAYMENT_ID = "payment_id";
-    public static final String AMOUNT = "amount";
+    public static final String AMOUNT = "amount_minor";
     public static final String CURRENCY = "currency";
     public static final String TYPE = "payment_type";
     public static final String CATEGORY = "category";
@@ -12,11 +12,22 @@ public class AuditTrailQueryConstant {
     public static final String UPDATED_AT = "updated_at";
     public static final String TABLE = "payment_system.audit_trail";
 
-    public static String getAuditTrailById(){
-        return String.format("SELECT * FROM %s WHERE %s = ?", TABLE, PAYMENT_ID);
-    }
+    // Every audit SELECT returns these columns in this order, so rows are read by the index constants below.
+    private static final String COLUMNS = String.join(", ", PAYMENT_ID, AMOUNT, CURRENCY, TYPE, CATEGORY, STATUS,
+            USER_NAME, CREATED_AT, UPDATED_AT);
+    public static final int PAYMENT_ID_INDEX = 1;
+    public static final int AMOUNT_INDEX = 2;
+    public static final int CURRENCY_INDEX = 3;
+    public static final int TYPE_INDEX = 4;
+    public static final int CATEGORY_INDEX = 5;
+    public static final int STATUS_INDEX = 6;
+    public static final int USER_NAME_INDEX = 7;
+    public static final int CREATED_AT_INDEX = 8;
+    public static final int UPDATED_AT_INDEX = 9;
 
-    public static String getAuditTrailByCreatedAtRange() {
-        return String.format("SELECT * FROM %s WHERE %s BETWEEN ? AND ?", TABLE, CREATED_AT);
-    }
+    public static final String GET_AUDIT_TRAIL_BY_ID =
+            String.format("SELECT %s FROM %s WHERE %s = ?", COLUMNS, TABLE, PAYMENT_ID);
+
+    public static final String GET_AUDIT_TRAIL_BY_CREATED_AT_RANGE =
+            String.format("SELECT %s FROM %s WHERE %s BETWEEN ? AND ?", COLUMNS, TABLE, CREATED_AT);
 }
@@ -2,37 +2,64 @@ package org.example.repository.jdbc.constants;
 
 public class PaymentDetailsQueryConstant {
     public static final String PAYMENT_ID = "payment_id";
-    public static final String AMOUNT = "amount";
+    public static final String AMOUNT = "amount_minor";
     public static final String CURRENCY = "currency";
     public static final String TYPE = "payment_type";
     public static final String CATEGORY = "category";
-    public static final String CREATED_BY = "created_by";
+    public static final String CREATED_BY = "user_name";
     public static final String ACCOUNT_NAME = "account_name";
     public static final String STATUS = "status";
     public static final String CREATED_AT = "created_at";
     public static final String UPDATED_AT = "updated_at";
 
+    public static final String YEAR = "report_year";
+    public static final String MONTH = "report_month";
+    public static final String TOTAL_AMOUNT = "total_amount_minor";
+
     public static final String TABLE = "payment_system.payment_details";
 
-    public static String createPaymentDetailsQuery() {
-        return String.format("INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s, %s) VALUES (?, ?, ?, ?, ?, ?::payment_type, ?::payment_category, ?::payment_status)",
-                TABLE, PAYMENT_ID, CREATED_BY, ACCOUNT_NAME, AMOUNT, CURRENCY, TYPE, CATEGORY, STATUS);
-    }
+    // Every payment SELECT returns these columns in this order, so rows are read by the index constants below.
+    private static final String COLUMNS = String.join(", ", PAYMENT_ID, CREATED_BY, ACCOUNT_NAME, AMOUNT, CURRENCY,
+            TYPE, CATEGORY, STATUS, CREATED_AT, UPDATED_AT);
+    public static final int PAYMENT_ID_INDEX = 1;
+    public static final int CREATED_BY_INDEX = 2;
+    public static final int ACCOUNT_NAME_INDEX = 3;
+    public static final int AMOUNT_INDEX = 4;
+    public static final int CURRENCY_INDEX = 5;
+    public static final int TYPE_INDEX = 6;
+    public static final int CATEGORY_INDEX = 7;
+    public static final int STATUS_INDEX = 8;
+    public static final int CREATED_AT_INDEX = 9;
+    public static final int UPDATED_AT_INDEX = 10;
+
+    // Column order of SUM_PAYMENT_DETAILS_BY_MONTH_IN_CREATED_AT_RANGE.
+    public static final int YEAR_INDEX = 1;
+    public static final int MONTH_INDEX = 2;
+    public static final int TOTAL_TYPE_INDEX = 3;
+    public static final int TOTAL_CURRENCY_INDEX = 4;
+    public static final int TOTAL_AMOUNT_INDEX = 5;
+
+    public static final String CREATE_PAYMENT_DETAILS =
+            String.format("INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s, %s) VALUES (?, ?, ?, ?, ?, ?::payment_type, ?::payment_category, ?::payment_status)",
+                    TABLE, PAYMENT_ID, CREATED_BY, ACCOUNT_NAME, AMOUNT, CURRENCY, TYPE, CATEGORY, STATUS);
+
+    public static final String UPDATE_PAYMENT_DETAILS_BY_ID =
+            String.format("UPDATE %s SET %s = ?::payment_status, %s = ? WHERE %s = ?", TABLE,
+                    STATUS, CREATED_BY, PAYMENT_ID);
 
-    public static String updatePaymentDetailsById() {
-        return String.format("UPDATE %s SET %s = ?::payment_status, %s = ? WHERE %s = ?", TABLE,
-                STATUS, CREATED_BY, PAYMENT_ID);
-    }
+    public static final String GET_PAYMENT_DETAILS_BY_ID =
+            String.format("SELECT %s FROM %s WHERE %s = ?", COLUMNS, TABLE, PAYMENT_ID);
 
-    public static String getPaymentDetailsById() {
-        return String.format("SELECT * FROM %s WHERE %s = ?", TABLE, PAYMENT_ID);
-    }
+    public static final String GET_ALL_PAYMENT_DETAILS =
+            String.format("SELECT %s FROM %s", COLUMNS, TABLE);
 
-    public static String getAllPaymentDetails() {
-        return String.format("SELECT * FROM %s", TABLE);
-    }
+    public static final String GET_PAYMENT_DETAILS_BY_CREATED_AT_RANGE =
+            String.format("SELECT %s FROM %s WHERE %s between ? AND ?", COLUMNS, TABLE, CREATED_AT);
 
-    public static String getPaymentDetailsByCreatedAtRange() {
-        return String.format("SELECT * FROM %s WHERE %s between ? AND ?", TABLE, CREATED_AT);
-    }
+    public static final String SUM_PAYMENT_DETAILS_BY_MONTH_IN_CREATED_AT_RANGE =
+            String.format("SELECT EXTRACT(YEAR FROM %1$s)::int AS %2$s, EXTRACT(MONTH FROM %1$s)::int AS %3$s, %4$s, %5$s, " +
+                            "SUM(%6$s) AS %7$s FROM %8$s WHERE %9$s between ? AND ? " +
+                            "GROUP BY %2$s, %3$s, %4$s, %5$s ORDER BY %2$s, %3$s",
+                    String.format("to_timestamp(%s / 1000.0)", CREATED_AT), YEAR, MONTH, TYPE, CURRENCY, AMOUNT,
+                    TOTAL_AMOUNT, TABLE, CREATED_AT);
 }
@@ -8,21 +8,24 @@ public class UserDetailsQueryConstant {
 
     public static final String TABLE = "payment_system.user_details";
 
-    public static String getAllUserDetails() {
-        return String.format("SELECT * FROM %s", TABLE);
-    }
+    // Column order of both user SELECTs; only the lookup by user name also returns the password hash.
+    public static final int USER_ID_INDEX = 1;
+    public static final int USER_NAME_INDEX = 2;
+    public static final int USER_ROLE_INDEX = 3;
+    public static final int PASSWORD_INDEX = 4;
 
-    public static String getUserDetailsByUserName() {
-        return String.format("SELECT * FROM %s WHERE %s = ? ", TABLE, USER_NAME);
-    }
+    public static final String GET_ALL_USER_DETAILS =
+            String.format("SELECT %s, %s, %s FROM %s", USER_ID, USER_NAME, USER_ROLE, TABLE);
 
-    public static String createUserDetails() {
-        return String.format("INSERT INTO %s (%s, %s, %s, %s) VALUES (?, ?, ?::user_role, ?)", TABLE,
-                USER_ID, USER_NAME, USER_ROLE, PASSWORD);
-    }
+    public static final String GET_USER_DETAILS_BY_USER_NAME =
+            String.format("SELECT %s, %s, %s, %s FROM %s WHERE %s = ? ", USER_ID, USER_NAME, USER_ROLE, PASSWORD,
+                    TABLE, USER_NAME);
 
-    public static String updateUserRoleByUserName() {
-        return String.format("UPDATE %s SET %s = ?::user_role WHERE %s = ?", TABLE,
-                 USER_ROLE, USER_NAME);
-    }
+    public static final String CREATE_USER_DETAILS =
+            String.format("INSERT INTO %s (%s, %s, %s, %s) VALUES (?, ?, ?::user_role, ?)", TABLE,
+                    USER_ID, USER_NAME, USER_ROLE, PASSWORD);
+
+    public static final String UPDATE_USER_ROLE_BY_USER_NAME =
+            String.format("UPDATE %s SET %s = ?::user_role WHERE %s = ?", TABLE,
+                    USER_ROLE, USER_NAME);
 }
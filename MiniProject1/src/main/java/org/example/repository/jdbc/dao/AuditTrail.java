@@ -1,5 +1,6 @@
 package org.example.repository.jdbc.dao;
 
+import org.example.model.Money;
 import org.example.model.enums.PaymentCategory;
 import org.example.model.enums.PaymentStatus;
 import org.example.model.enums.PaymentType;
@@ -7,7 +8,7 @@ import org.example.model.enums.PaymentType;
 public class AuditTrail {
     private String id;
     private String userName;
-    private String amount;
+    private Money amount;
     private String currency;
     private PaymentCategory category;
     private PaymentType type;
@@ -31,11 +32,11 @@ public class AuditTrail {
         this.userName = userName;
     }
 
-    public String getAmount() {
+    public Money getAmount() {
         return amount;
     }
 
-    public void setAmount(String amount) {
+    public void setAmount(Money amount) {
         this.amount = amount;
     }
 
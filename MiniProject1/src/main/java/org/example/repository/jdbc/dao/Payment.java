@@ -1,12 +1,13 @@
 package org.example.repository.jdbc.dao;
 
+import org.example.model.Money;
 import org.example.model.enums.PaymentCategory;
 import org.example.model.enums.PaymentStatus;
 import org.example.model.enums.PaymentType;
 
 public class Payment {
     private String id;
-    private String amount;
+    private Money amount;
     private String currency;
     private PaymentCategory category;
     private PaymentType type;
@@ -24,11 +25,11 @@ public class Payment {
         this.id = id;
     }
 
-    public String getAmount() {
+    public Money getAmount() {
         return amount;
     }
 
-    public void setAmount(String amount) {
+    public void setAmount(Money amount) {
         this.amount = amount;
     }
 
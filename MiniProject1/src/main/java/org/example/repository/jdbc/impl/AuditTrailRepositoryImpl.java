@@ -1,5 +1,6 @@
 package org.example.repository.jdbc.impl;
 
+import org.example.model.Money;
 import org.example.model.enums.PaymentCategory;
 import org.example.model.enums.PaymentStatus;
 import org.example.model.enums.PaymentType;
@@ -7,6 +8,8 @@ import org.example.repository.AuditTrailRepository;
 import org.example.repository.jdbc.constants.AuditTrailQueryConstant;
 import org.example.repository.jdbc.dao.AuditTrail;
 import org.example.util.DBConnectionUtil;
+import org.example.util.DBExecutorUtil;
+import org.example.util.EnumLookup;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -16,77 +19,71 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
-import static org.example.repository.jdbc.constants.AuditTrailQueryConstant.AMOUNT;
-import static org.example.repository.jdbc.constants.AuditTrailQueryConstant.CATEGORY;
-import static org.example.repository.jdbc.constants.AuditTrailQueryConstant.CREATED_AT;
-import static org.example.repository.jdbc.constants.AuditTrailQueryConstant.CURRENCY;
-import static org.example.repository.jdbc.constants.AuditTrailQueryConstant.PAYMENT_ID;
-import static org.example.repository.jdbc.constants.AuditTrailQueryConstant.STATUS;
-import static org.example.repository.jdbc.constants.AuditTrailQueryConstant.TYPE;
-import static org.example.repository.jdbc.constants.AuditTrailQueryConstant.UPDATED_AT;
-import static org.example.repository.jdbc.constants.AuditTrailQueryConstant.USER_NAME;
+import static org.example.repository.jdbc.constants.AuditTrailQueryConstant.AMOUNT_INDEX;
+import static org.example.repository.jdbc.constants.AuditTrailQueryConstant.CATEGORY_INDEX;
+import static org.example.repository.jdbc.constants.AuditTrailQueryConstant.CREATED_AT_INDEX;
+import static org.example.repository.jdbc.constants.AuditTrailQueryConstant.CURRENCY_INDEX;
+import static org.example.repository.jdbc.constants.AuditTrailQueryConstant.PAYMENT_ID_INDEX;
+import static org.example.repository.jdbc.constants.AuditTrailQueryConstant.STATUS_INDEX;
+import static org.example.repository.jdbc.constants.AuditTrailQueryConstant.TYPE_INDEX;
+import static org.example.repository.jdbc.constants.AuditTrailQueryConstant.UPDATED_AT_INDEX;
+import static org.example.repository.jdbc.constants.AuditTrailQueryConstant.USER_NAME_INDEX;
 
 public class AuditTrailRepositoryImpl implements AuditTrailRepository {
 
     @Override
     public CompletableFuture<List<AuditTrail>> getAuditTrailById(String id) {
-        List<AuditTrail> auditTrails = new ArrayList<>();
+        return DBExecutorUtil.supplyAsync(() -> {
+            List<AuditTrail> auditTrails = new ArrayList<>();
+            try (Connection conn = DBConnectionUtil.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(AuditTrailQueryConstant.GET_AUDIT_TRAIL_BY_ID)) {
 
-        try (Connection conn = DBConnectionUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(AuditTrailQueryConstant.getAuditTrailById())) {
+                stmt.setString(1, id);
 
-            stmt.setString(1, id);
-
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    auditTrails.add(mapResultSetToAuditTrail(rs));
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        auditTrails.add(mapResultSetToAuditTrail(rs));
+                    }
                 }
             }
-        } catch (SQLException e) {
-            throw new RuntimeException("Error fetching audit trail by ID: " + id, e);
-        }
-
-        return CompletableFuture.completedFuture(auditTrails);
+            return auditTrails;
+        }, "Error fetching audit trail by ID: " + id);
     }
 
     @Override
     public CompletableFuture<List<AuditTrail>> getAuditTrailByCreatedAtRange(Long startDateEpoch, Long endDateEpoch) {
-        List<AuditTrail> auditTrails = new ArrayList<>();
-
-        try (Connection conn = DBConnectionUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(AuditTrailQueryConstant.getAuditTrailByCreatedAtRange())) {
-
-            stmt.setLong(1, startDateEpoch);
-            stmt.setLong(2, endDateEpoch);
-
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    auditTrails.add(mapResultSetToAuditTrail(rs));
+        return DBExecutorUtil.supplyAsync(() -> {
+            List<AuditTrail> auditTrails = new ArrayList<>();
+            try (Connection conn = DBConnectionUtil.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(AuditTrailQueryConstant.GET_AUDIT_TRAIL_BY_CREATED_AT_RANGE)) {
+
+                stmt.setLong(1, startDateEpoch);
+                stmt.setLong(2, endDateEpoch);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        auditTrails.add(mapResultSetToAuditTrail(rs));
+                    }
                 }
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException("Error fetching audit trails in date range", e);
-        }
-
-        return CompletableFuture.completedFuture(auditTrails);
 
+            }
+            return auditTrails;
+        }, "Error fetching audit trails in date range");
     }
 
-    private AuditTrail mapResultSetToAuditTrail(ResultSet rs) throws SQLException {
+    // Reads each column once, by position, in select order.
+    private static AuditTrail mapResultSetToAuditTrail(ResultSet rs) throws SQLException {
         AuditTrail auditTrail = new AuditTrail();
-        auditTrail.setId(rs.getString(PAYMENT_ID));
-        auditTrail.setAmount(rs.getString(AMOUNT));
-        auditTrail.setCurrency(rs.getString(CURRENCY));
-        auditTrail.setUserName(rs.getString(USER_NAME));
-        auditTrail.setCreatedAt(rs.getLong(CREATED_AT));
-        auditTrail.setUpdatedAt(rs.getLong(UPDATED_AT));
-        String category = rs.getString(CATEGORY);
-        String status = rs.getString(STATUS);
-        String type = rs.getString(TYPE);
-        auditTrail.setCategory(category != null ? PaymentCategory.valueOf(category) : null);
-        auditTrail.setStatus(status != null ? PaymentStatus.valueOf(status) : null);
-        auditTrail.setType(type != null ? PaymentType.valueOf(type) : null);
+        auditTrail.setId(rs.getString(PAYMENT_ID_INDEX));
+        long amount = rs.getLong(AMOUNT_INDEX);
+        auditTrail.setAmount(rs.wasNull() ? null : Money.ofMinor(amount));
+        auditTrail.setCurrency(rs.getString(CURRENCY_INDEX));
+        auditTrail.setType(EnumLookup.decode(PaymentType.class, rs.getString(TYPE_INDEX)));
+        auditTrail.setCategory(EnumLookup.decode(PaymentCategory.class, rs.getString(CATEGORY_INDEX)));
+        auditTrail.setStatus(EnumLookup.decode(PaymentStatus.class, rs.getString(STATUS_INDEX)));
+        auditTrail.setUserName(rs.getString(USER_NAME_INDEX));
+        auditTrail.setCreatedAt(rs.getLong(CREATED_AT_INDEX));
+        auditTrail.setUpdatedAt(rs.getLong(UPDATED_AT_INDEX));
         return auditTrail;
     }
 
@@ -99,6 +96,6 @@ public class AuditTrailRepositoryImpl implements AuditTrailRepository {
 
             System.out.println("Audit Trail for ID PAY12345:");
             res.forEach(System.out::println);
-        });
+        }).join();
     }
 }
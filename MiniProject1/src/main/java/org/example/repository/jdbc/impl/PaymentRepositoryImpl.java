@@ -1,12 +1,16 @@
 package org.example.repository.jdbc.impl;
 
+import org.example.model.Money;
 import org.example.model.enums.PaymentCategory;
 import org.example.model.enums.PaymentStatus;
 import org.example.model.enums.PaymentType;
 import org.example.repository.PaymentRepository;
 import org.example.repository.jdbc.constants.PaymentDetailsQueryConstant;
+import org.example.repository.jdbc.dao.MonthlyPaymentTotal;
 import org.example.repository.jdbc.dao.Payment;
 import org.example.util.DBConnectionUtil;
+import org.example.util.DBExecutorUtil;
+import org.example.util.EnumLookup;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -16,119 +20,151 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
-import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.ACCOUNT_NAME;
-import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.AMOUNT;
-import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.CATEGORY;
-import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.CREATED_AT;
-import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.CURRENCY;
-import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.PAYMENT_ID;
-import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.STATUS;
-import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.TYPE;
-import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.UPDATED_AT;
-import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.CREATED_BY;
+import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.ACCOUNT_NAME_INDEX;
+import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.AMOUNT_INDEX;
+import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.CATEGORY_INDEX;
+import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.CREATED_AT_INDEX;
+import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.CREATED_BY_INDEX;
+import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.CURRENCY_INDEX;
+import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.MONTH_INDEX;
+import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.PAYMENT_ID_INDEX;
+import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.STATUS_INDEX;
+import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.TOTAL_AMOUNT_INDEX;
+import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.TOTAL_CURRENCY_INDEX;
+import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.TOTAL_TYPE_INDEX;
+import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.TYPE_INDEX;
+import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.UPDATED_AT_INDEX;
+import static org.example.repository.jdbc.constants.PaymentDetailsQueryConstant.YEAR_INDEX;
 
 public class PaymentRepositoryImpl implements PaymentRepository {
 
     @Override
     public CompletableFuture<Payment> getPaymentById(String id) {
-        Payment payment = null;
-        try (Connection conn = DBConnectionUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(PaymentDetailsQueryConstant.getPaymentDetailsById())) {
-
-            stmt.setString(1, id);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    payment = mapResultSetToPayment(rs);
+        return DBExecutorUtil.supplyAsync(() -> {
+            Payment payment = null;
+            try (Connection conn = DBConnectionUtil.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(PaymentDetailsQueryConstant.GET_PAYMENT_DETAILS_BY_ID)) {
+
+                stmt.setString(1, id);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        payment = mapResultSetToPayment(rs);
+                    }
                 }
             }
-        } catch (SQLException e) {
-            throw new RuntimeException("Error fetching Payment by ID", e);
-        }
-        return CompletableFuture.completedFuture(payment);
+            return payment;
+        }, "Error fetching Payment by ID");
     }
 
     @Override
     public CompletableFuture<Void> createPayment(Payment payment) {
-        try (Connection conn = DBConnectionUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(PaymentDetailsQueryConstant.createPaymentDetailsQuery())) {
-            stmt.setString(1, payment.getId());
-            stmt.setString(2, payment.getUserName());
-            stmt.setString(3, payment.getAccountName());
-            stmt.setString(4, payment.getAmount());
-            stmt.setString(5, payment.getCurrency());
-            stmt.setString(6, payment.getType() != null ? payment.getType().name() : null);
-            stmt.setString(7, payment.getCategory() != null ? payment.getCategory().name() : null);
-            stmt.setString(8, payment.getStatus() != null ? payment.getStatus().name() : null);
-            stmt.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Error creating Payment", e);
-        }
-        return CompletableFuture.completedFuture(null);
+        return DBExecutorUtil.supplyAsync(() -> {
+            try (Connection conn = DBConnectionUtil.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(PaymentDetailsQueryConstant.CREATE_PAYMENT_DETAILS)) {
+                stmt.setString(1, payment.getId());
+                stmt.setString(2, payment.getUserName());
+                stmt.setString(3, payment.getAccountName());
+                stmt.setLong(4, payment.getAmount().getMinorUnits());
+                stmt.setString(5, payment.getCurrency());
+                stmt.setString(6, payment.getType() != null ? payment.getType().name() : null);
+                stmt.setString(7, payment.getCategory() != null ? payment.getCategory().name() : null);
+                stmt.setString(8, payment.getStatus() != null ? payment.getStatus().name() : null);
+                stmt.executeUpdate();
+            }
+            return null;
+        }, "Error creating Payment");
     }
 
     @Override
     public CompletableFuture<Void> updatePaymentStatus(String id, PaymentStatus status, String userName) {
-        try (Connection conn = DBConnectionUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(PaymentDetailsQueryConstant.updatePaymentDetailsById())) {
-            stmt.setString(1, status != null ? status.name() : null);
-            stmt.setString(2, userName);
-            stmt.setString(3, id);
-            stmt.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Error updating Payment", e);
-        }
-        return CompletableFuture.completedFuture(null);
+        return DBExecutorUtil.supplyAsync(() -> {
+            try (Connection conn = DBConnectionUtil.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(PaymentDetailsQueryConstant.UPDATE_PAYMENT_DETAILS_BY_ID)) {
+                stmt.setString(1, status != null ? status.name() : null);
+                stmt.setString(2, userName);
+                stmt.setString(3, id);
+                stmt.executeUpdate();
+            }
+            return null;
+        }, "Error updating Payment");
     }
 
     @Override
     public CompletableFuture<List<Payment>> getAllPayments() {
-        List<Payment> payments = new ArrayList<>();
-        try (Connection conn = DBConnectionUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(PaymentDetailsQueryConstant.getAllPaymentDetails());
-             ResultSet rs = stmt.executeQuery()) {
-
-            while (rs.next()) {
-                Payment payment = mapResultSetToPayment(rs);
-                payments.add(payment);
+        return DBExecutorUtil.supplyAsync(() -> {
+            List<Payment> payments = new ArrayList<>();
+            try (Connection conn = DBConnectionUtil.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(PaymentDetailsQueryConstant.GET_ALL_PAYMENT_DETAILS);
+                 ResultSet rs = stmt.executeQuery()) {
+
+                while (rs.next()) {
+                    Payment payment = mapResultSetToPayment(rs);
+                    payments.add(payment);
+                }
             }
-        } catch (SQLException e) {
-            throw new RuntimeException("Error fetching Payments", e);
-        }
-        return CompletableFuture.completedFuture(payments);
+            return payments;
+        }, "Error fetching Payments");
     }
 
     @Override
     public CompletableFuture<List<Payment>> findPaymentsBetween(Long startDate, Long endDate) {
-        List<Payment> payments = new ArrayList<>();
-        try (Connection conn = DBConnectionUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(PaymentDetailsQueryConstant.getPaymentDetailsByCreatedAtRange())) {
+        return DBExecutorUtil.supplyAsync(() -> {
+            List<Payment> payments = new ArrayList<>();
+            try (Connection conn = DBConnectionUtil.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(PaymentDetailsQueryConstant.GET_PAYMENT_DETAILS_BY_CREATED_AT_RANGE)) {
+
+                stmt.setLong(1, startDate);
+                stmt.setLong(2, endDate);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        Payment payment = mapResultSetToPayment(rs);
+                        payments.add(payment);
+                    }
+                }
+            }
+            return payments;
+        }, "Error fetching Payments by Created At Range");
+    }
 
-            stmt.setLong(1, startDate);
-            stmt.setLong(2, endDate);
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    Payment payment = mapResultSetToPayment(rs);
-                    payments.add(payment);
+    @Override
+    public CompletableFuture<List<MonthlyPaymentTotal>> sumPaymentsByMonth(Long startDate, Long endDate) {
+        return DBExecutorUtil.supplyAsync(() -> {
+            List<MonthlyPaymentTotal> totals = new ArrayList<>();
+            try (Connection conn = DBConnectionUtil.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(PaymentDetailsQueryConstant.SUM_PAYMENT_DETAILS_BY_MONTH_IN_CREATED_AT_RANGE)) {
+
+                stmt.setLong(1, startDate);
+                stmt.setLong(2, endDate);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        MonthlyPaymentTotal total = new MonthlyPaymentTotal();
+                        total.setYear(rs.getInt(YEAR_INDEX));
+                        total.setMonth(rs.getInt(MONTH_INDEX));
+                        total.setType(EnumLookup.decode(PaymentType.class, rs.getString(TOTAL_TYPE_INDEX)));
+                        total.setCurrency(rs.getString(TOTAL_CURRENCY_INDEX));
+                        total.setTotalAmount(rs.getLong(TOTAL_AMOUNT_INDEX));
+                        totals.add(total);
+                    }
                 }
             }
-        } catch (SQLException e) {
-            throw new RuntimeException("Error fetching Payments by Created At Range", e);
-        }
-        return CompletableFuture.completedFuture(payments);
+            return totals;
+        }, "Error summing Payments by month");
     }
 
-    private Payment mapResultSetToPayment(ResultSet rs) throws SQLException {
+    // Reads each column once, by position, in select order.
+    private static Payment mapResultSetToPayment(ResultSet rs) throws SQLException {
         Payment payment = new Payment();
-        payment.setId(rs.getString(PAYMENT_ID));
-        payment.setUserName(rs.getString(CREATED_BY));
-        payment.setAmount(rs.getString(AMOUNT));
-        payment.setAccountName(rs.getString(ACCOUNT_NAME));
-        payment.setCategory(rs.getString(CATEGORY) != null ? PaymentCategory.valueOf(rs.getString(CATEGORY)) : null);
-        payment.setStatus(rs.getString(STATUS) != null ? PaymentStatus.valueOf(rs.getString(STATUS)) : null);
-        payment.setType(rs.getString(TYPE) != null ? PaymentType.valueOf(rs.getString(TYPE)) : null);
-        payment.setCurrency(rs.getString(CURRENCY));
-        payment.setCreatedAt(rs.getLong(CREATED_AT));
-        payment.setUpdatedAt(rs.getLong(UPDATED_AT));
+        payment.setId(rs.getString(PAYMENT_ID_INDEX));
+        payment.setUserName(rs.getString(CREATED_BY_INDEX));
+        payment.setAccountName(rs.getString(ACCOUNT_NAME_INDEX));
+        long amount = rs.getLong(AMOUNT_INDEX);
+        payment.setAmount(rs.wasNull() ? null : Money.ofMinor(amount));
+        payment.setCurrency(rs.getString(CURRENCY_INDEX));
+        payment.setType(EnumLookup.decode(PaymentType.class, rs.getString(TYPE_INDEX)));
+        payment.setCategory(EnumLookup.decode(PaymentCategory.class, rs.getString(CATEGORY_INDEX)));
+        payment.setStatus(EnumLookup.decode(PaymentStatus.class, rs.getString(STATUS_INDEX)));
+        payment.setCreatedAt(rs.getLong(CREATED_AT_INDEX));
+        payment.setUpdatedAt(rs.getLong(UPDATED_AT_INDEX));
         return payment;
     }
 
@@ -136,7 +172,7 @@ public class PaymentRepositoryImpl implements PaymentRepository {
         PaymentRepository paymentRepository = new PaymentRepositoryImpl();
         Payment dummyPayment = new Payment();
         dummyPayment.setId("PAY12345");
-        dummyPayment.setAmount("15000");
+        dummyPayment.setAmount(Money.parse("15000"));
         dummyPayment.setCurrency("INR");
         dummyPayment.setCategory(PaymentCategory.INVOICE);
         dummyPayment.setType(PaymentType.OUTGOING);
@@ -149,7 +185,7 @@ public class PaymentRepositoryImpl implements PaymentRepository {
             } else {
                 res.forEach(System.out::println);
             }
-        });
+        }).join();
     }
 
 }
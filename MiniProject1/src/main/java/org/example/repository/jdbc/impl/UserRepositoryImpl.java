@@ -2,95 +2,95 @@ package org.example.repository.jdbc.impl;
 
 import org.example.model.enums.UserRole;
 import org.example.repository.UserRepository;
-import org.example.repository.jdbc.constants.PaymentDetailsQueryConstant;
 import org.example.repository.jdbc.constants.UserDetailsQueryConstant;
 import org.example.repository.jdbc.dao.User;
 import org.example.util.DBConnectionUtil;
+import org.example.util.DBExecutorUtil;
+import org.example.util.EnumLookup;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
-import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
-import static org.example.repository.jdbc.constants.UserDetailsQueryConstant.PASSWORD;
-import static org.example.repository.jdbc.constants.UserDetailsQueryConstant.USER_ID;
-import static org.example.repository.jdbc.constants.UserDetailsQueryConstant.USER_NAME;
-import static org.example.repository.jdbc.constants.UserDetailsQueryConstant.USER_ROLE;
+import static org.example.repository.jdbc.constants.UserDetailsQueryConstant.PASSWORD_INDEX;
+import static org.example.repository.jdbc.constants.UserDetailsQueryConstant.USER_ID_INDEX;
+import static org.example.repository.jdbc.constants.UserDetailsQueryConstant.USER_NAME_INDEX;
+import static org.example.repository.jdbc.constants.UserDetailsQueryConstant.USER_ROLE_INDEX;
 
 public class UserRepositoryImpl implements UserRepository {
 
     @Override
     public CompletableFuture<List<User>> getAllUsers() {
-        List<User> users = new ArrayList<>();
-        try (Connection conn = DBConnectionUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(UserDetailsQueryConstant.getAllUserDetails());
-             ResultSet rs = stmt.executeQuery()) {
+        return DBExecutorUtil.supplyAsync(() -> {
+            List<User> users = new ArrayList<>();
+            try (Connection conn = DBConnectionUtil.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(UserDetailsQueryConstant.GET_ALL_USER_DETAILS);
+                 ResultSet rs = stmt.executeQuery()) {
 
-            while (rs.next()) {
-                User user = new User();
-                user.setId(rs.getString(USER_ID));
-                user.setUsername(rs.getString(USER_NAME));
-                user.setRole(rs.getString(USER_ROLE) != null ? UserRole.valueOf(rs.getString(USER_ROLE)) : null);
-                users.add(user);
+                while (rs.next()) {
+                    User user = new User();
+                    user.setId(rs.getString(USER_ID_INDEX));
+                    user.setUsername(rs.getString(USER_NAME_INDEX));
+                    user.setRole(EnumLookup.decode(UserRole.class, rs.getString(USER_ROLE_INDEX)));
+                    users.add(user);
+                }
             }
-        } catch (SQLException e) {
-            throw new RuntimeException("Error fetching users", e);
-        }
-        return CompletableFuture.completedFuture(users);
+            return users;
+        }, "Error fetching users");
     }
 
     @Override
     public CompletableFuture<User> getUserByUserName(String userName) {
-        User user = null;
-        try (Connection conn = DBConnectionUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(UserDetailsQueryConstant.getUserDetailsByUserName())) {
+        return DBExecutorUtil.supplyAsync(() -> {
+            User user = null;
+            try (Connection conn = DBConnectionUtil.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(UserDetailsQueryConstant.GET_USER_DETAILS_BY_USER_NAME)) {
 
-            stmt.setString(1, userName);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    user = new User();
-                    user.setId(rs.getString(USER_ID));
-                    user.setUsername(rs.getString(USER_NAME));
-                    user.setPassword(rs.getString(PASSWORD));
-                    user.setRole(rs.getString(USER_ROLE) != null ? UserRole.valueOf(rs.getString(USER_ROLE)) : null);
+                stmt.setString(1, userName);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        user = new User();
+                        user.setId(rs.getString(USER_ID_INDEX));
+                        user.setUsername(rs.getString(USER_NAME_INDEX));
+                        user.setRole(EnumLookup.decode(UserRole.class, rs.getString(USER_ROLE_INDEX)));
+                        user.setPassword(rs.getString(PASSWORD_INDEX));
+                    }
                 }
             }
-        } catch (SQLException e) {
-            throw new RuntimeException("Error fetching user by ID", e);
-        }
-        return CompletableFuture.completedFuture(user);
+            return user;
+        }, "Error fetching user by ID");
     }
 
     @Override
     public CompletableFuture<Void> createUser(User user) {
-        try (Connection conn = DBConnectionUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(UserDetailsQueryConstant.createUserDetails())) {
+        return DBExecutorUtil.supplyAsync(() -> {
+            try (Connection conn = DBConnectionUtil.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(UserDetailsQueryConstant.CREATE_USER_DETAILS)) {
 
-            stmt.setString(1, user.getId());
-            stmt.setString(2, user.getUsername());
-            stmt.setString(3, user.getRole() != null ? user.getRole().name() : null);
-            stmt.setString(4, user.getPassword());
-            stmt.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Error creating user", e);
-        }
-        return CompletableFuture.completedFuture(null);
+                stmt.setString(1, user.getId());
+                stmt.setString(2, user.getUsername());
+                stmt.setString(3, user.getRole() != null ? user.getRole().name() : null);
+                stmt.setString(4, user.getPassword());
+                stmt.executeUpdate();
+            }
+            return null;
+        }, "Error creating user");
     }
 
     @Override
     public CompletableFuture<Void> updateUserRole(String userName, UserRole role){
-        try (Connection conn = DBConnectionUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(UserDetailsQueryConstant.updateUserRoleByUserName())) {
-            stmt.setString(1, role != null ? role.name() : null);
-            stmt.setString(2, userName);
-            stmt.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Error updating User", e);
-        }
-        return CompletableFuture.completedFuture(null);
+        return DBExecutorUtil.supplyAsync(() -> {
+            try (Connection conn = DBConnectionUtil.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(UserDetailsQueryConstant.UPDATE_USER_ROLE_BY_USER_NAME)) {
+                stmt.setString(1, role != null ? role.name() : null);
+                stmt.setString(2, userName);
+                stmt.executeUpdate();
+            }
+            return null;
+        }, "Error updating User");
     }
 
     public static void main(String[] args) {
@@ -106,6 +106,6 @@ public class UserRepositoryImpl implements UserRepository {
             } else {
                 System.out.println("User Updated successfully:");
             }
-        });
+        }).join();
     }
 }
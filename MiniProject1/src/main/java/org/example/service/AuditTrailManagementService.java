@@ -1,11 +1,12 @@
 package org.example.service;
 
+import org.example.model.UserSession;
 import org.example.repository.jdbc.dao.AuditTrail;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 public interface AuditTrailManagementService {
-    CompletableFuture<List<AuditTrail>> getAuditTrailById(String id, String username, String password);
-    CompletableFuture<List<AuditTrail>> getAuditTrailByCreatedAtRange(String startDate, String endDate, String password);
+    CompletableFuture<List<AuditTrail>> getAuditTrailById(String id, UserSession session);
+    CompletableFuture<List<AuditTrail>> getAuditTrailByCreatedAtRange(String startDate, String endDate, UserSession session);
 }
@@ -1,10 +1,10 @@
 package org.example.service.impl;
 
+import org.example.model.UserSession;
 import org.example.repository.AuditTrailRepository;
 import org.example.repository.jdbc.dao.AuditTrail;
-import org.example.repository.jdbc.impl.AuditTrailRepositoryImpl;
 import org.example.service.AuditTrailManagementService;
-import org.example.util.ValidatorUtil;
+import org.example.util.SessionRegistry;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -12,10 +12,17 @@ import java.util.concurrent.CompletableFuture;
 import static org.example.util.DateUtil.convertDdMmYyyyToEpochMilli;
 
 public class AuditTrailManagementServiceImpl implements AuditTrailManagementService {
+    private final AuditTrailRepository auditTrailRepository;
+    private final SessionRegistry sessionRegistry;
+
+    public AuditTrailManagementServiceImpl(AuditTrailRepository auditTrailRepository, SessionRegistry sessionRegistry) {
+        this.auditTrailRepository = auditTrailRepository;
+        this.sessionRegistry = sessionRegistry;
+    }
+
     @Override
-    public CompletableFuture<List<AuditTrail>> getAuditTrailById(String id, String username, String password) {
-        AuditTrailRepository auditTrailRepository = new AuditTrailRepositoryImpl();
-        return ValidatorUtil.validateUserManager(username, password).thenCompose(validationResponse -> {
+    public CompletableFuture<List<AuditTrail>> getAuditTrailById(String id, UserSession session) {
+        return sessionRegistry.validateUserManager(session).thenCompose(validationResponse -> {
             if(validationResponse.isValid())
                 return auditTrailRepository.getAuditTrailById(id);
             return CompletableFuture.failedFuture(
@@ -25,11 +32,10 @@ public class AuditTrailManagementServiceImpl implements AuditTrailManagementServ
     }
 
     @Override
-    public CompletableFuture<List<AuditTrail>> getAuditTrailByCreatedAtRange(String startDate, String endDate, String password) {
-        AuditTrailRepository auditTrailRepository = new AuditTrailRepositoryImpl();
+    public CompletableFuture<List<AuditTrail>> getAuditTrailByCreatedAtRange(String startDate, String endDate, UserSession session) {
         Long startDateEpoch = convertDdMmYyyyToEpochMilli(startDate);
         Long endDateEpoch = convertDdMmYyyyToEpochMilli(endDate);
-        return ValidatorUtil.validateUserManager("admin", password).thenCompose(validationResponse -> {
+        return sessionRegistry.validateUserManager(session).thenCompose(validationResponse -> {
             if(validationResponse.isValid())
                 return auditTrailRepository.getAuditTrailByCreatedAtRange(startDateEpoch, endDateEpoch);
 
@@ -2,12 +2,16 @@ package org.example.service.impl;
 
 import org.example.model.Report;
 import org.example.model.PaymentLifeCycleManagementResponse;
+import org.example.model.UserSession;
+import org.example.model.ValidationResponse;
 import org.example.model.enums.PaymentStatus;
 import org.example.model.enums.PaymentType;
 import org.example.repository.PaymentRepository;
+import org.example.repository.jdbc.dao.MonthlyPaymentTotal;
 import org.example.repository.jdbc.dao.Payment;
-import org.example.repository.jdbc.impl.PaymentRepositoryImpl;
 import org.example.service.PaymentManagementService;
+import org.example.util.DateUtil;
+import org.example.util.SessionRegistry;
 
 import java.time.LocalDate;
 import java.time.Month;
@@ -18,57 +22,58 @@ import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.LinkedHashMap;
 
-import static org.example.util.DateUtil.convertEpochToDateAndReturnMonth;
 import static org.example.util.ValidatorUtil.validatePayment;
-import static org.example.util.ValidatorUtil.validateUserAdmin;
-import static org.example.util.ValidatorUtil.validateUserManager;
 
 public class PaymentManagementServiceImpl implements PaymentManagementService {
+    private final PaymentRepository paymentRepository;
+    private final SessionRegistry sessionRegistry;
+
+    public PaymentManagementServiceImpl(PaymentRepository paymentRepository, SessionRegistry sessionRegistry) {
+        this.paymentRepository = paymentRepository;
+        this.sessionRegistry = sessionRegistry;
+    }
+
     @Override
-    public CompletableFuture<PaymentLifeCycleManagementResponse> createPaymentRecord(Payment payment, String userName, String password) {
-        PaymentRepository paymentRepository = new PaymentRepositoryImpl();
-        return validateUserAdmin(userName, password).thenCompose(validateUserResponse -> {
+    public CompletableFuture<PaymentLifeCycleManagementResponse> createPaymentRecord(Payment payment, UserSession session) {
+        CompletableFuture<ValidationResponse> userValidation = sessionRegistry.validateUserAdmin(session);
+        CompletableFuture<ValidationResponse> paymentValidation = validatePayment(payment);
+        return userValidation.thenCombine(paymentValidation, (validateUserResponse, validationResponse) -> {
             if (!validateUserResponse.isValid()) {
                 throw new RuntimeException(validateUserResponse.getErrorMessage());
             }
-            return validatePayment(payment).thenCompose(validationResponse -> {
-                if (!validationResponse.isValid()) {
-                    throw new RuntimeException(validationResponse.getErrorMessage());
-                }
-                return paymentRepository.createPayment(payment)
-                        .thenCompose(aVoid -> createPaymentSuccesResponse(List.of(), "Payment Created Successfully", "SUCCESS"));
-            });
-        });
+            if (!validationResponse.isValid()) {
+                throw new RuntimeException(validationResponse.getErrorMessage());
+            }
+            return payment;
+        }).thenCompose(paymentRepository::createPayment)
+                .thenCompose(aVoid -> createPaymentSuccesResponse(List.of(), "Payment Created Successfully", "SUCCESS"));
     }
 
     @Override
-    public CompletableFuture<PaymentLifeCycleManagementResponse> updatePayment(String id, String userName, String password, String status) {
-        PaymentRepository paymentRepository = new PaymentRepositoryImpl();
-        return validateUserManager(userName, password).thenCompose(validateUserResponse -> {
+    public CompletableFuture<PaymentLifeCycleManagementResponse> updatePayment(String id, UserSession session, String status) {
+        return sessionRegistry.validateUserManager(session).thenCompose(validateUserResponse -> {
             if (!validateUserResponse.isValid()) {
                 throw new RuntimeException(validateUserResponse.getErrorMessage());
             }
-            return paymentRepository.updatePaymentStatus(id, PaymentStatus.valueOf(status), userName)
+            return paymentRepository.updatePaymentStatus(id, PaymentStatus.valueOf(status), session.getUserName())
                     .thenCompose(aVoid -> createPaymentSuccesResponse(List.of(), "Payment Status Updated Successfully", "SUCCESS"));
         });
     }
 
     @Override
     public CompletableFuture<Report> generateMonthlyReport(int month, int year) {
-        PaymentRepository paymentRepository = new PaymentRepositoryImpl();
         LocalDate startDate = LocalDate.of(year, month, 1);
         LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
 
         long startEpoch = startDate.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
         long endEpoch = endDate.atTime(23, 59, 59).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
 
-        CompletableFuture<List<Payment>> payments = paymentRepository.findPaymentsBetween(startEpoch, endEpoch);
-        return buildReport(payments, "MONTHLY");
+        CompletableFuture<List<MonthlyPaymentTotal>> totals = paymentRepository.sumPaymentsByMonth(startEpoch, endEpoch);
+        return buildReport(totals, "MONTHLY");
     }
 
     @Override
     public CompletableFuture<Report> generateQuarterlyReport(int quarter, int year) {
-        PaymentRepository paymentRepository = new PaymentRepositoryImpl();
 
         LocalDate startDate;
         LocalDate endDate = switch (quarter) {
@@ -94,13 +99,12 @@ public class PaymentManagementServiceImpl implements PaymentManagementService {
         long startEpoch = startDate.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
         long endEpoch = endDate.atTime(23, 59, 59).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
 
-        CompletableFuture<List<Payment>> payments = paymentRepository.findPaymentsBetween(startEpoch, endEpoch);
-        return buildReport(payments, "QUARTERLY");
+        CompletableFuture<List<MonthlyPaymentTotal>> totals = paymentRepository.sumPaymentsByMonth(startEpoch, endEpoch);
+        return buildReport(totals, "QUARTERLY");
     }
 
     @Override
     public CompletableFuture<PaymentLifeCycleManagementResponse> getAllPayment() {
-        PaymentRepository paymentRepository = new PaymentRepositoryImpl();
 
         return paymentRepository.getAllPayments()
                 .thenCompose(payments -> {
@@ -113,7 +117,6 @@ public class PaymentManagementServiceImpl implements PaymentManagementService {
 
     @Override
     public CompletableFuture<PaymentLifeCycleManagementResponse> getPaymentById(String id) {
-        PaymentRepository paymentRepository = new PaymentRepositoryImpl();
 
         return paymentRepository.getPaymentById(id)
                 .thenCompose(payment -> {
@@ -124,29 +127,27 @@ public class PaymentManagementServiceImpl implements PaymentManagementService {
                 });
     }
 
-    private CompletableFuture<Report> buildReport(CompletableFuture<List<Payment>> paymentsFuture, String reportType) {
+    private CompletableFuture<Report> buildReport(CompletableFuture<List<MonthlyPaymentTotal>> totalsFuture, String reportType) {
         Report report = new Report();
-        return paymentsFuture.thenApply(payments -> {
-            if (payments.isEmpty()) {
+        return totalsFuture.thenApply(totals -> {
+            if (totals.isEmpty()) {
                 report.setStatus("FAILURE");
                 report.setMessage("No Payments Found for the specified period");
                 return report;
             }
 
-            Map<String, Report.Data> reportData = payments.stream().collect(Collectors.groupingBy(
-                    payment -> {
-                        return convertEpochToDateAndReturnMonth(payment.getCreatedAt());
-                    },
+            Map<String, Report.Data> reportData = totals.stream().collect(Collectors.groupingBy(
+                    total -> DateUtil.monthLabel(DateUtil.monthBucket(total.getYear(), total.getMonth())),
                     LinkedHashMap::new,
-                    Collectors.collectingAndThen(Collectors.toList(), monthPayments -> {
+                    Collectors.collectingAndThen(Collectors.toList(), monthTotals -> {
                         Report.Data data = new Report.Data();
-                        data.inComingPayments = monthPayments.stream()
-                                .filter(p -> p.getType() == PaymentType.INCOMING)
-                                .mapToLong(p -> Long.parseLong(p.getAmount()))
+                        data.inComingPayments = monthTotals.stream()
+                                .filter(t -> t.getType() == PaymentType.INCOMING)
+                                .mapToLong(MonthlyPaymentTotal::getTotalAmount)
                                 .sum();
-                        data.outGoingPayments = monthPayments.stream()
-                                .filter(p -> p.getType() == PaymentType.OUTGOING)
-                                .mapToLong(p -> Long.parseLong(p.getAmount()))
+                        data.outGoingPayments = monthTotals.stream()
+                                .filter(t -> t.getType() == PaymentType.OUTGOING)
+                                .mapToLong(MonthlyPaymentTotal::getTotalAmount)
                                 .sum();
                         data.netBalance = data.inComingPayments - data.outGoingPayments;
                         return data;
@@ -1,29 +1,40 @@
 package org.example.service.impl;
 
 import org.example.model.UserLifeCycleManagementResponse;
+import org.example.model.UserSession;
 import org.example.model.enums.UserRole;
 import org.example.repository.UserRepository;
 import org.example.repository.jdbc.dao.User;
-import org.example.repository.jdbc.impl.UserRepositoryImpl;
 import org.example.service.UserManagementService;
+import org.example.util.SessionRegistry;
 
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.example.util.PasswordUtil.checkPassword;
 import static org.example.util.PasswordUtil.hashPassword;
-import static org.example.util.ValidatorUtil.validateUserAdmin;
 
 public class UserManagementServiceImpl implements UserManagementService {
+    private static final long SESSION_TTL_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+    private final UserRepository userRepository;
+    private final SessionRegistry sessionRegistry;
+
+    public UserManagementServiceImpl(UserRepository userRepository, SessionRegistry sessionRegistry) {
+        this.userRepository = userRepository;
+        this.sessionRegistry = sessionRegistry;
+    }
 
     @Override
     public CompletableFuture<UserLifeCycleManagementResponse> createUser(String userName, String password) {
-        UserRepository userRepository = new UserRepositoryImpl();
+        // The lookup runs on a database worker while this thread hashes the password.
+        CompletableFuture<User> existingUserLookup = userRepository.getUserByUserName(userName);
         String userId = UUID.randomUUID().toString();
         String hashedPassword = hashPassword(password);
         User user = new User(userId, userName, hashedPassword, UserRole.VIEWER);
-        return userRepository.getUserByUserName(userName).thenCompose(existingUser -> {
+        return existingUserLookup.thenCompose(existingUser -> {
             if (existingUser != null) {
                 return createUserResponse("User already exists", "FAILURE");
             }
@@ -34,29 +45,31 @@ public class UserManagementServiceImpl implements UserManagementService {
     }
 
     @Override
-    public CompletableFuture<UserLifeCycleManagementResponse> updateUserRole(String userName, String password,
+    public CompletableFuture<UserLifeCycleManagementResponse> updateUserRole(UserSession session,
                                                                              String userToUpdate, String role) {
-        UserRepository userRepository = new UserRepositoryImpl();
-        return validateUserAdmin(userName, password).thenCompose(validationResponse -> {
+        return sessionRegistry.validateUserAdmin(session).thenCompose(validationResponse -> {
            if(validationResponse.isValid()){
-               return userRepository.updateUserRole(userToUpdate, UserRole.valueOf(role)).thenCompose(aVoid ->
-                     createUserResponse("User Role Updated Successfully", "SUCCESS")
-               );
+               return userRepository.updateUserRole(userToUpdate, UserRole.valueOf(role)).thenCompose(aVoid -> {
+                     sessionRegistry.invalidateUser(userToUpdate);
+                     return createUserResponse("User Role Updated Successfully", "SUCCESS");
+               });
            }
            throw new RuntimeException("Only Admin Can update the Role");
         });
     }
 
     @Override
-    public CompletableFuture<UserRole> verifyUser(String userName, String password){
-        UserRepository userRepository = new UserRepositoryImpl();
-        return userRepository.getUserByUserName(userName).thenCompose(user ->{
-           if(user.getId().isEmpty() || user.getId() == null){
+    public CompletableFuture<UserSession> verifyUser(String userName, String password){
+        return userRepository.getUserByUserName(userName).thenComposeAsync(user ->{
+           if(user == null || user.getId() == null || user.getId().isEmpty()){
                throw new RuntimeException("No users found");
            }
 
            if(checkPassword(password,user.getPassword())){
-               return CompletableFuture.completedFuture(user.getRole());
+               UserSession session = new UserSession(user.getUsername(), user.getRole(),
+                       System.currentTimeMillis() + SESSION_TTL_MILLIS);
+               sessionRegistry.register(session);
+               return CompletableFuture.completedFuture(session);
            }
 
             throw new RuntimeException("Password is Incorrect");
@@ -65,7 +78,6 @@ public class UserManagementServiceImpl implements UserManagementService {
 
     @Override
     public CompletableFuture<List<User>> getAllUsers() {
-        UserRepository userRepository = new UserRepositoryImpl();
         return userRepository.getAllUsers().thenApply(users -> {
             if (users.isEmpty()) {
                 throw new RuntimeException("No users found");
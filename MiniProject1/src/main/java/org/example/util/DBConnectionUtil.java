@@ -2,17 +2,29 @@ package org.example.util;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import java.io.InputStream;
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
 
 public class DBConnectionUtil {
 
     private static final String PROPERTIES_FILE = "applications.properties";
+    private static final String POOL_NAME = "payments-pool";
+    private static final Logger logger = Logger.getLogger(DBConnectionUtil.class.getName());
     private static HikariDataSource dataSource;
+    private static long statementTimeoutMillis;
+    private static boolean warmUp;
+    private static MeterRegistry meterRegistry;
 
     static {
         initializeDataSource();
@@ -54,15 +66,65 @@ public class DBConnectionUtil {
         config.setUsername(properties.getProperty("db.username"));
         config.setPassword(properties.getProperty("db.password"));
 
-        config.setMaximumPoolSize(10);
-        config.setMinimumIdle(2);
-        config.setIdleTimeout(300000);
-        config.setMaxLifetime(600000);
-        config.setConnectionTimeout(30000);
+        config.setPoolName(POOL_NAME);
+        config.setMaximumPoolSize(Integer.parseInt(properties.getProperty("db.pool.maximum-size", "10")));
+        config.setMinimumIdle(Integer.parseInt(properties.getProperty("db.pool.minimum-idle", "2")));
+        config.setIdleTimeout(Long.parseLong(properties.getProperty("db.pool.idle-timeout-ms", "300000")));
+        config.setMaxLifetime(Long.parseLong(properties.getProperty("db.pool.max-lifetime-ms", "600000")));
+        config.setConnectionTimeout(Long.parseLong(properties.getProperty("db.pool.connection-timeout-ms", "30000")));
 
+        // Ends a statement on the server once DBExecutorUtil has stopped waiting for it.
+        statementTimeoutMillis = Long.parseLong(properties.getProperty("db.statement-timeout-ms", "30000"));
+        config.setConnectionInitSql("SET statement_timeout = " + statementTimeoutMillis);
+
+        config.addDataSourceProperty("prepareThreshold", properties.getProperty("db.prepare-threshold", "5"));
+        config.addDataSourceProperty("preparedStatementCacheQueries",
+                properties.getProperty("db.prepared-statement-cache-queries", "256"));
+        config.addDataSourceProperty("preparedStatementCacheSizeMiB",
+                properties.getProperty("db.prepared-statement-cache-size-mib", "5"));
+
+        warmUp = Boolean.parseBoolean(properties.getProperty("db.pool.warm-up", "true"));
         dataSource = new HikariDataSource(config);
     }
 
+    public static int getMaximumPoolSize() {
+        return dataSource.getMaximumPoolSize();
+    }
+
+    public static long getConnectionTimeoutMillis() {
+        return dataSource.getConnectionTimeout();
+    }
+
+    public static long getStatementTimeoutMillis() {
+        return statementTimeoutMillis;
+    }
+
+    /** Publishes the pool's hikaricp.* meters to the registry; shutdown logs a summary of them. */
+    public static void setMeterRegistry(MeterRegistry registry) {
+        dataSource.setMetricRegistry(registry);
+        meterRegistry = registry;
+    }
+
+    /**
+     * Opens the pool's minimum idle connections up front, when {@code db.pool.warm-up} is set. Hikari would
+     * otherwise open them in the background and the first queries would wait for connection setup.
+     */
+    public static void warmUp() {
+        if (!warmUp) {
+            return;
+        }
+        List<Connection> connections = new ArrayList<>();
+        try {
+            for (int i = 0; i < dataSource.getMinimumIdle(); i++) {
+                connections.add(dataSource.getConnection());
+            }
+        } catch (SQLException e) {
+            System.err.println("Failed to warm up database connection pool: " + e.getMessage());
+        } finally {
+            connections.forEach(DBConnectionUtil::closeConnection);
+        }
+    }
+
     public static Connection getConnection() throws SQLException {
         if (dataSource == null) {
             throw new SQLException("DataSource is not initialized");
@@ -74,7 +136,6 @@ public class DBConnectionUtil {
         if (conn != null) {
             try {
                 conn.close();
-                System.out.println("Database connection returned to pool!");
             } catch (SQLException e) {
                 System.err.println("Error closing database connection: " + e.getMessage());
             }
@@ -83,8 +144,24 @@ public class DBConnectionUtil {
 
     public static void shutdown() {
         if (dataSource != null && !dataSource.isClosed()) {
+            logPoolMetrics();
             dataSource.close();
-            System.out.println("HikariCP connection pool shut down.");
+            logger.info("HikariCP connection pool shut down.");
+        }
+    }
+
+    private static void logPoolMetrics() {
+        if (meterRegistry == null) {
+            return;
+        }
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", POOL_NAME).timer();
+        Timer usage = meterRegistry.find("hikaricp.connections.usage").tag("pool", POOL_NAME).timer();
+        Counter timeouts = meterRegistry.find("hikaricp.connections.timeout").tag("pool", POOL_NAME).counter();
+        if (acquire == null || usage == null || timeouts == null) {
+            return;
         }
+        logger.info(String.format("%s: %d connections acquired, mean wait %.2f ms, mean use %.2f ms, %d timeouts",
+                POOL_NAME, acquire.count(), acquire.mean(TimeUnit.MILLISECONDS), usage.mean(TimeUnit.MILLISECONDS),
+                (long) timeouts.count()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package org.example.util;
+
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs blocking JDBC calls off the caller's thread. The pool has one thread per pooled connection, so a call
+ * never holds a thread while it waits for a connection that another call of this pool is using.
+ * A call that is cancelled or runs past the timeout is interrupted, and one that has not started yet never runs.
+ */
+public class DBExecutorUtil {
+
+    private static final long CALL_TIMEOUT_MILLIS = DBConnectionUtil.getStatementTimeoutMillis()
+            + DBConnectionUtil.getConnectionTimeoutMillis();
+
+    private static final ExecutorService executor = Executors.newFixedThreadPool(
+            DBConnectionUtil.getMaximumPoolSize(), new DBThreadFactory());
+
+    @FunctionalInterface
+    public interface SqlCall<T> {
+        T call() throws SQLException;
+    }
+
+    public static <T> CompletableFuture<T> supplyAsync(SqlCall<T> call, String errorMessage) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task = executor.submit(() -> {
+            try {
+                result.complete(call.call());
+            } catch (SQLException e) {
+                result.completeExceptionally(new RuntimeException(errorMessage, e));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        result.orTimeout(CALL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS).whenComplete((value, error) -> {
+            if (error != null) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    public static void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static class DBThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "db-worker-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
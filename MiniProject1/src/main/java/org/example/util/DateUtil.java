@@ -1,17 +1,41 @@
 package org.example.util;
 
-import java.text.SimpleDateFormat;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.Date;
-import java.util.Locale;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+/**
+ * Date helpers. The bucket methods map epoch millis to day, month and quarter ids in the JVM default zone, or in
+ * the zone passed in. They are meant for per-row use: the offset comes from a small per-zone cache of
+ * zone-rules windows and the calendar fields from integer arithmetic, so nothing is allocated once the windows
+ * the rows fall into are cached, even when rows alternate across an offset transition or threads work in
+ * different periods.
+ */
 public class DateUtil {
+
+    private static final DateTimeFormatter DD_MM_YYYY = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final int WINDOWS_PER_ZONE = 8;
+
+    private static final String[] MONTH_LABELS = {
+            "January", "February", "March", "April", "May", "June",
+            "July", "August", "September", "October", "November", "December"
+    };
+    private static final String[] QUARTER_LABELS = {"Q1", "Q2", "Q3", "Q4"};
+
+    private static final ConcurrentHashMap<ZoneId, ZoneWindows> WINDOWS_BY_ZONE = new ConcurrentHashMap<>();
+    private static final ZoneWindows DEFAULT_ZONE_WINDOWS = windowsOf(ZoneId.systemDefault());
+
     public static long convertDdMmYyyyToEpochMilli(String dateString) {
         try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-            LocalDate localDate = LocalDate.parse(dateString, formatter);
+            LocalDate localDate = LocalDate.parse(dateString, DD_MM_YYYY);
             return localDate.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
         } catch (java.time.format.DateTimeParseException e) {
             System.err.println("Error parsing date: " + e.getMessage());
@@ -20,13 +44,134 @@ public class DateUtil {
     }
 
     public static String convertEpochToDateAndReturnMonth(long epochMillis) {
-        Date date = new Date(epochMillis);
+        return monthLabel(monthBucket(epochMillis));
+    }
+
+    /** Days since 1970-01-01 in the default zone. */
+    public static long dayBucket(long epochMillis) {
+        return dayBucket(epochMillis, DEFAULT_ZONE_WINDOWS);
+    }
+
+    public static long dayBucket(long epochMillis, ZoneId zone) {
+        return dayBucket(epochMillis, windowsOf(zone));
+    }
 
-        SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yy");
-        String formattedDate = dateFormat.format(date);
-        System.out.println("Formatted Date: " + formattedDate);
+    /** {@code year * 12 + (month - 1)} in the default zone; consecutive months have consecutive ids. */
+    public static int monthBucket(long epochMillis) {
+        return monthBucket(epochMillis, DEFAULT_ZONE_WINDOWS);
+    }
+
+    public static int monthBucket(long epochMillis, ZoneId zone) {
+        return monthBucket(epochMillis, windowsOf(zone));
+    }
 
-        SimpleDateFormat monthFormat = new SimpleDateFormat("MMMM", Locale.ENGLISH);
-        return monthFormat.format(date);
+    public static int monthBucket(int year, int month) {
+        return year * 12 + month - 1;
+    }
+
+    /** {@code year * 4 + (quarter - 1)} in the default zone. */
+    public static int quarterBucket(long epochMillis) {
+        return Math.floorDiv(monthBucket(epochMillis), 3);
+    }
+
+    public static int quarterBucket(long epochMillis, ZoneId zone) {
+        return Math.floorDiv(monthBucket(epochMillis, zone), 3);
+    }
+
+    private static long dayBucket(long epochMillis, ZoneWindows windows) {
+        return Math.floorDiv(epochMillis + windows.offsetMillis(epochMillis), MILLIS_PER_DAY);
+    }
+
+    private static int monthBucket(long epochMillis, ZoneWindows windows) {
+        // Civil-from-days (H. Hinnant): March-based years keep February's variable length at the end of the cycle.
+        long days = dayBucket(epochMillis, windows) + 719_468;
+        long era = Math.floorDiv(days, 146_097);
+        long dayOfEra = days - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long marchMonth = (5 * dayOfYear + 2) / 153;
+        int month = (int) (marchMonth < 10 ? marchMonth + 3 : marchMonth - 9);
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+        return monthBucket(year, month);
+    }
+
+    public static int yearOfMonthBucket(int monthBucket) {
+        return Math.floorDiv(monthBucket, 12);
+    }
+
+    public static int monthOfMonthBucket(int monthBucket) {
+        return Math.floorMod(monthBucket, 12) + 1;
+    }
+
+    /** Full English month name, e.g. "March"; the same String instance is returned for every call. */
+    public static String monthLabel(int monthBucket) {
+        return MONTH_LABELS[Math.floorMod(monthBucket, 12)];
+    }
+
+    /** "Q1" to "Q4"; the same String instance is returned for every call. */
+    public static String quarterLabel(int quarterBucket) {
+        return QUARTER_LABELS[Math.floorMod(quarterBucket, 4)];
+    }
+
+    private static ZoneWindows windowsOf(ZoneId zone) {
+        return WINDOWS_BY_ZONE.computeIfAbsent(zone, id -> new ZoneWindows(id.getRules()));
+    }
+
+    /**
+     * The last few offset windows looked up in one zone. Eight windows cover four years of a zone with daylight
+     * saving; a miss loads the window from the zone rules and overwrites the slots round-robin.
+     */
+    private static final class ZoneWindows {
+        private final ZoneRules rules;
+        private final AtomicReferenceArray<OffsetWindow> windows = new AtomicReferenceArray<>(WINDOWS_PER_ZONE);
+        private final AtomicInteger nextSlot = new AtomicInteger();
+
+        private ZoneWindows(ZoneRules rules) {
+            this.rules = rules;
+        }
+
+        private long offsetMillis(long epochMillis) {
+            for (int i = 0; i < WINDOWS_PER_ZONE; i++) {
+                OffsetWindow window = windows.get(i);
+                if (window != null && window.contains(epochMillis)) {
+                    return window.offsetMillis;
+                }
+            }
+            OffsetWindow window = OffsetWindow.load(rules, epochMillis);
+            windows.set(Math.floorMod(nextSlot.getAndIncrement(), WINDOWS_PER_ZONE), window);
+            return window.offsetMillis;
+        }
+    }
+
+    /** Span between two offset transitions of a zone. */
+    private static final class OffsetWindow {
+        private final long fromMillis;
+        private final long untilMillis;
+        private final long offsetMillis;
+
+        private OffsetWindow(long fromMillis, long untilMillis, long offsetMillis) {
+            this.fromMillis = fromMillis;
+            this.untilMillis = untilMillis;
+            this.offsetMillis = offsetMillis;
+        }
+
+        private boolean contains(long epochMillis) {
+            return epochMillis >= fromMillis && epochMillis < untilMillis;
+        }
+
+        private static OffsetWindow load(ZoneRules rules, long epochMillis) {
+            Instant instant = Instant.ofEpochMilli(epochMillis);
+            ZoneOffset offset = rules.getOffset(instant);
+            ZoneOffsetTransition previous = rules.previousTransition(instant);
+            ZoneOffsetTransition next = rules.nextTransition(instant);
+
+            long from = previous == null ? Long.MIN_VALUE : previous.getInstant().toEpochMilli();
+            if (previous != null && !previous.getOffsetAfter().equals(offset)) {
+                // Exactly on a transition: previousTransition reports the one before it.
+                from = epochMillis;
+            }
+            long until = next == null ? Long.MAX_VALUE : next.getInstant().toEpochMilli();
+            return new OffsetWindow(from, until, offset.getTotalSeconds() * 1000L);
+        }
     }
 }
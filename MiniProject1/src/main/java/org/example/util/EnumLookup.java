@@ -0,0 +1,35 @@
+package org.example.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decodes database enum labels for the row mappers. Each enum's name table is built once and shared, so decoding
+ * a column is a map lookup instead of {@code valueOf}'s exception-backed search.
+ */
+public class EnumLookup {
+
+    private static final ClassValue<Map<String, ? extends Enum<?>>> BY_NAME = new ClassValue<>() {
+        @Override
+        protected Map<String, ? extends Enum<?>> computeValue(Class<?> type) {
+            Map<String, Enum<?>> byName = new HashMap<>();
+            for (Object constant : type.getEnumConstants()) {
+                Enum<?> value = (Enum<?>) constant;
+                byName.put(value.name(), value);
+            }
+            return byName;
+        }
+    };
+
+    /** Null stays null; an unknown label throws like {@link Enum#valueOf(Class, String)}. */
+    public static <E extends Enum<E>> E decode(Class<E> type, String value) {
+        if (value == null) {
+            return null;
+        }
+        Enum<?> decoded = BY_NAME.get(type).get(value);
+        if (decoded == null) {
+            throw new IllegalArgumentException("Unknown " + type.getSimpleName() + ": " + value);
+        }
+        return type.cast(decoded);
+    }
+}
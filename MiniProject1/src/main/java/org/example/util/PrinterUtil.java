@@ -26,7 +26,7 @@ public class PrinterUtil {
         for (Payment p : payments) {
             System.out.format(format,
                     trim(p.getId(), 10),
-                    trim(p.getAmount(), 10),
+                    trim(p.getAmount() != null ? p.getAmount().toString() : null, 10),
                     trim(p.getCurrency(), 8),
                     trim(p.getCategory().name(), 18),
                     trim(p.getType().name(), 10),
@@ -51,7 +51,7 @@ public class PrinterUtil {
         for (AuditTrail p : audits) {
             System.out.format(format,
                     trim(p.getId(), 10),
-                    trim(p.getAmount(), 10),
+                    trim(p.getAmount() != null ? p.getAmount().toString() : null, 10),
                     trim(p.getCurrency(), 8),
                     trim(p.getCategory().name(), 18),
                     trim(p.getType().name(), 10),
@@ -121,8 +121,9 @@ public class PrinterUtil {
         System.out.println("Cumulative Net Balance: ₹" + formatCurrency(totalNet));
     }
 
-    private static String formatCurrency(long value) {
-        return String.format("%,d", value);
+    private static String formatCurrency(long minorUnits) {
+        long abs = Math.abs(minorUnits);
+        return String.format("%s%,d.%02d", minorUnits < 0 ? "-" : "", abs / 100, abs % 100);
     }
 
     private static String maskPassword(String password) {
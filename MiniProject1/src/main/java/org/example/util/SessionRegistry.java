@@ -0,0 +1,80 @@
+package org.example.util;
+
+import org.example.model.UserSession;
+import org.example.model.ValidationResponse;
+import org.example.model.enums.UserRole;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sessions issued at login, by user name, so a role change can end the sessions that carry the old role.
+ * A session leaves the registry when its user's role changes, when validation finds it no longer active, or in
+ * the sweep of inactive sessions that runs on every login, so a long-running process only keeps live sessions.
+ */
+public class SessionRegistry {
+
+    private final Map<String, Set<UserSession>> activeSessions = new ConcurrentHashMap<>();
+
+    public void register(UserSession session) {
+        removeInactive();
+        activeSessions.compute(session.getUserName(), (userName, sessions) -> {
+            Set<UserSession> userSessions = sessions != null ? sessions : ConcurrentHashMap.newKeySet();
+            userSessions.add(session);
+            return userSessions;
+        });
+    }
+
+    public void invalidateUser(String userName) {
+        Set<UserSession> sessions = activeSessions.remove(userName);
+        if (sessions != null) {
+            sessions.forEach(UserSession::invalidate);
+        }
+    }
+
+    public CompletableFuture<ValidationResponse> validateUserAdmin(UserSession session) {
+        return CompletableFuture.completedFuture(validateSession(session, UserRole.ADMIN, "User is not an admin"));
+    }
+
+    public CompletableFuture<ValidationResponse> validateUserManager(UserSession session) {
+        return CompletableFuture.completedFuture(
+                validateSession(session, UserRole.FINANCE_MANAGER, "User is not a finance manager"));
+    }
+
+    boolean contains(UserSession session) {
+        Set<UserSession> sessions = activeSessions.get(session.getUserName());
+        return sessions != null && sessions.contains(session);
+    }
+
+    private ValidationResponse validateSession(UserSession session, UserRole role, String roleErrorMessage) {
+        if (session == null) {
+            return new ValidationResponse("Session has expired, please log in again");
+        }
+        if (!session.isActive()) {
+            remove(session);
+            return new ValidationResponse("Session has expired, please log in again");
+        }
+        if (session.getRole() != role) {
+            return new ValidationResponse(roleErrorMessage);
+        }
+        return new ValidationResponse(true);
+    }
+
+    private void remove(UserSession session) {
+        activeSessions.computeIfPresent(session.getUserName(), (userName, sessions) -> {
+            sessions.remove(session);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    private void removeInactive() {
+        for (String userName : activeSessions.keySet()) {
+            activeSessions.computeIfPresent(userName, (name, sessions) -> {
+                sessions.removeIf(session -> !session.isActive());
+                return sessions.isEmpty() ? null : sessions;
+            });
+        }
+    }
+}
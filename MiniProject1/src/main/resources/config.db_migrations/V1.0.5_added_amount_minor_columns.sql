@@ -0,0 +1,78 @@
+-- Amounts move from varchar to bigint minor units (two decimal places); the varchar column is kept, nullable,
+-- for rows that could not be converted.
+ALTER TABLE payment_system.payment_details ADD COLUMN IF NOT EXISTS amount_minor bigint;
+ALTER TABLE payment_system.payment_details ALTER COLUMN amount DROP NOT NULL;
+
+ALTER TABLE payment_system.audit_trail ADD COLUMN IF NOT EXISTS amount_minor bigint;
+ALTER TABLE payment_system.audit_trail ALTER COLUMN amount DROP NOT NULL;
+
+-- The conversion is not a payment revision, so the audit and modified_at triggers are switched off for it.
+ALTER TABLE payment_system.payment_details DISABLE TRIGGER USER;
+ALTER TABLE payment_system.audit_trail DISABLE TRIGGER USER;
+
+UPDATE payment_system.payment_details SET amount_minor = round(amount::numeric * 100)::bigint
+WHERE amount_minor IS NULL AND amount ~ '^-?[0-9]+(\.[0-9]{1,2})?$';
+
+UPDATE payment_system.audit_trail SET amount_minor = round(amount::numeric * 100)::bigint
+WHERE amount_minor IS NULL AND amount ~ '^-?[0-9]+(\.[0-9]{1,2})?$';
+
+ALTER TABLE payment_system.payment_details ENABLE TRIGGER USER;
+ALTER TABLE payment_system.audit_trail ENABLE TRIGGER USER;
+
+CREATE OR REPLACE FUNCTION payment_system.log_audit_trail()
+RETURNS TRIGGER AS $$
+DECLARE
+    new_revision BIGINT;
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        NEW.revision_count := 1;
+
+        INSERT INTO payment_system.audit_trail (
+            payment_id, revision_count, revision_type,
+            amount_minor, currency, payment_type, category, user_name,account_name,
+            status, created_at, updated_at
+        ) VALUES (
+            NEW.payment_id, NEW.revision_count, 'CREATE',
+            NEW.amount_minor, NEW.currency, NEW.payment_type, NEW.category, NEW.user_name,
+            NEW.account_name, NEW.status, NEW.created_at, NEW.updated_at
+        );
+
+        RETURN NEW;
+
+    ELSIF TG_OP = 'UPDATE' THEN
+        SELECT revision_count + 1 INTO new_revision
+        FROM payment_system.payment_details
+        WHERE payment_id = OLD.payment_ID
+        FOR UPDATE;
+
+        NEW.revision_count := new_revision;
+
+        INSERT INTO payment_system.audit_trail (
+            payment_id, revision_count, revision_type,
+            amount_minor, currency, payment_type, category, user_name, account_name,
+            status, created_at, updated_at
+        ) VALUES (
+             NEW.payment_id, new_revision, 'UPDATE',
+            NEW.amount_minor, NEW.currency, NEW.payment_type, NEW.category, NEW.user_name,
+            NEW.account_name, NEW.status, (EXTRACT(epoch FROM now()) * 1000::numeric), NEW.updated_at
+        );
+
+        RETURN NEW;
+
+    ELSIF TG_OP = 'DELETE' THEN
+        INSERT INTO payment_system.audit_trail (
+             payment_id, revision_count, revision_type,
+            amount_minor, currency, payment_type, category, user_name, account_name,
+            status, created_at, updated_at
+        ) VALUES (
+             OLD.payment_id, OLD.revision_count, 'DELETE',
+            OLD.amount_minor, OLD.currency, OLD.payment_type, OLD.category, OLD.user_name,
+            OLD.account_name, OLD.status, (EXTRACT(epoch FROM now()) * 1000::numeric), OLD.updated_at
+        );
+
+        RETURN OLD;
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
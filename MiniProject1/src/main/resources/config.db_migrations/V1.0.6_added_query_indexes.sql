@@ -0,0 +1,12 @@
+-- Indexes for the filters in PaymentDetailsQueryConstant and AuditTrailQueryConstant.
+--
+-- payment_details: created_at range queries and per-month totals by type and currency. amount_minor is an
+-- INCLUDE column so the totals can be read from the index alone.
+CREATE INDEX IF NOT EXISTS payment_details_created_at_report_idx
+    ON payment_system.payment_details (created_at, payment_type, currency) INCLUDE (amount_minor);
+
+-- audit_trail: rows are appended in created_at order, so a BRIN index covers range scans at a fraction of
+-- the size of a B-tree. Lookups by payment_id already use audit_trail_pkey (payment_id, revision_count),
+-- and user_details.user_name is covered by its unique constraint.
+CREATE INDEX IF NOT EXISTS audit_trail_created_at_brin_idx
+    ON payment_system.audit_trail USING brin (created_at);
@@ -0,0 +1,29 @@
+package org.example.util;
+
+import org.example.model.enums.PaymentStatus;
+import org.example.model.enums.UserRole;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnumLookupTest {
+
+    @Test
+    void decode_KnownLabel_ReturnsConstant() {
+        assertEquals(PaymentStatus.COMPLETED, EnumLookup.decode(PaymentStatus.class, "COMPLETED"));
+        assertEquals(UserRole.FINANCE_MANAGER, EnumLookup.decode(UserRole.class, "FINANCE_MANAGER"));
+    }
+
+    @Test
+    void decode_Null_ReturnsNull() {
+        assertNull(EnumLookup.decode(PaymentStatus.class, null));
+    }
+
+    @Test
+    void decode_UnknownLabel_Throws() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> EnumLookup.decode(PaymentStatus.class, "completed"));
+
+        assertEquals("Unknown PaymentStatus: completed", exception.getMessage());
+    }
+}
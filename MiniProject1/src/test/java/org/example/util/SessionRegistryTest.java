@@ -0,0 +1,77 @@
+package org.example.util;
+
+import org.example.model.UserSession;
+import org.example.model.ValidationResponse;
+import org.example.model.enums.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionRegistryTest {
+
+    private final SessionRegistry sessionRegistry = new SessionRegistry();
+
+    @Test
+    void validateUserAdmin_ExpiredSession_RejectedAndRemovedFromRegistry() {
+        UserSession session = new UserSession("admin", UserRole.ADMIN, System.currentTimeMillis() - 1);
+        sessionRegistry.register(session);
+        assertTrue(sessionRegistry.contains(session));
+
+        ValidationResponse response = sessionRegistry.validateUserAdmin(session).join();
+
+        assertFalse(response.isValid());
+        assertFalse(sessionRegistry.contains(session));
+    }
+
+    @Test
+    void validateUserAdmin_ActiveSession_AcceptedAndKept() {
+        UserSession session = activeSession("admin", UserRole.ADMIN);
+        sessionRegistry.register(session);
+
+        ValidationResponse response = sessionRegistry.validateUserAdmin(session).join();
+
+        assertTrue(response.isValid());
+        assertTrue(sessionRegistry.contains(session));
+    }
+
+    @Test
+    void validateUserManager_WrongRole_Rejected() {
+        UserSession session = activeSession("viewer", UserRole.VIEWER);
+        sessionRegistry.register(session);
+
+        ValidationResponse response = sessionRegistry.validateUserManager(session).join();
+
+        assertFalse(response.isValid());
+        assertEquals("User is not a finance manager", response.getErrorMessage());
+    }
+
+    @Test
+    void register_SweepsExpiredSessionsOfOtherUsers() {
+        UserSession expired = new UserSession("viewer", UserRole.VIEWER, System.currentTimeMillis() - 1);
+        UserSession active = activeSession("manager", UserRole.FINANCE_MANAGER);
+        sessionRegistry.register(expired);
+
+        sessionRegistry.register(active);
+
+        assertFalse(sessionRegistry.contains(expired));
+        assertTrue(sessionRegistry.contains(active));
+    }
+
+    @Test
+    void invalidateUser_EndsSessionAndRemovesIt() {
+        UserSession session = activeSession("admin", UserRole.ADMIN);
+        sessionRegistry.register(session);
+
+        sessionRegistry.invalidateUser("admin");
+
+        assertFalse(session.isActive());
+        assertFalse(sessionRegistry.contains(session));
+        assertFalse(sessionRegistry.validateUserAdmin(session).join().isValid());
+    }
+
+    private static UserSession activeSession(String userName, UserRole role) {
+        return new UserSession(userName, role, System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(30));
+    }
+}
@@ -0,0 +1,52 @@
+package zeta.payments.commons.money;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.EqualsAndHashCode;
+
+import java.math.BigDecimal;
+
+/**
+ * Fixed-point amount held as a count of minor units (two decimal places). Parsing happens once when an
+ * amount enters the system; persistence, JSON and arithmetic afterwards work on the {@code long}.
+ */
+@EqualsAndHashCode
+public final class Money {
+
+    public static final int SCALE = 2;
+    private static final long MINOR_PER_MAJOR = 100L;
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return new Money(minorUnits);
+    }
+
+    @JsonCreator
+    public static Money parse(String amount) {
+        if (amount == null || amount.isBlank()) {
+            throw new IllegalArgumentException("Amount must not be empty");
+        }
+        try {
+            return new Money(new BigDecimal(amount.trim()).movePointRight(SCALE).longValueExact());
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new IllegalArgumentException("Invalid amount: " + amount, e);
+        }
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    @JsonValue
+    @Override
+    public String toString() {
+        long abs = Math.abs(minorUnits);
+        long fraction = abs % MINOR_PER_MAJOR;
+        return (minorUnits < 0 ? "-" : "") + abs / MINOR_PER_MAJOR + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+}
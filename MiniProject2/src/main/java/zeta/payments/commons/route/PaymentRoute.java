@@ -13,4 +13,6 @@ public class PaymentRoute {
     public static final String REPORTS = "/reports";
     public static final String MONTHLY = "/month/{month}" + YEAR;
     public static final String QUARTERLY = "/quarter/{quarter}" + YEAR;
+    public static final String EXPORT = "/export";
+    public static final String BATCH = ":batch";
 }
@@ -0,0 +1,95 @@
+package zeta.payments.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import zeta.payments.exception.PaymentManagementException;
+import zeta.payments.util.PasswordUtil;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs every BCrypt hash and verification through {@link PasswordUtil} on a fixed pool of worker threads, so
+ * logins and password changes can only ever use that many cores and payment requests keep the rest. Callers
+ * wait for their result; once the pool and its queue are full, new requests are turned away with a 429
+ * instead of queuing behind a login storm.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final ExecutorService executor;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(int threads, int queueCapacity) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(Metrics.globalRegistry, pool, "auth.password.hashing");
+        this.rejected = Counter.builder("auth.password.hashing.rejected")
+                .description("Password hashes and verifications refused because the hashing pool was full")
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        String plainPassword = rawPassword.toString();
+        return execute(() -> PasswordUtil.hashPassword(plainPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        String plainPassword = rawPassword.toString();
+        return execute(() -> {
+            try {
+                return PasswordUtil.checkPassword(plainPassword, encodedPassword);
+            } catch (IllegalArgumentException e) {
+                // Not a BCrypt hash, so it cannot match.
+                return false;
+            }
+        });
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> result;
+        try {
+            result = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PaymentManagementException(429, "Too many password requests. Please retry shortly.", "FAILURE");
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PaymentManagementException(503, "Password check interrupted", "FAILURE");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
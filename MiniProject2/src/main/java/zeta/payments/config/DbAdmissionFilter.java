@@ -0,0 +1,126 @@
+package zeta.payments.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static zeta.payments.commons.route.PaymentRoute.API;
+
+/**
+ * Caps how many API requests run their service/JPA work at once. With virtual threads Tomcat no longer
+ * limits concurrency, so thousands of requests would otherwise queue inside Hikari and fail with connection
+ * timeouts; here they wait for a permit instead and get a 503 if none frees up in time. Runs after the
+ * security chain, so rejected credentials never take a permit. A request that goes async (the NDJSON exports)
+ * keeps its permit until the async context completes, errors or times out, since it holds its connection
+ * until the stream ends; the ASYNC dispatch itself is not filtered again.
+ */
+@Component
+@ConditionalOnProperty(name = "payments.db-admission.enabled", havingValue = "true")
+public class DbAdmissionFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long waitTimeoutMillis;
+    private final Counter rejected;
+
+    public DbAdmissionFilter(@Value("${payments.db-admission.max-concurrent}") int maxConcurrent,
+                             @Value("${payments.db-admission.wait-timeout-ms:2000}") long waitTimeoutMillis) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.rejected = Counter.builder("payments.db.admission.rejected").register(Metrics.globalRegistry);
+        Gauge.builder("payments.db.admission.available", permits, Semaphore::availablePermits)
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + API + "/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejected.increment();
+            response.setContentType("application/json");
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "1");
+            response.getWriter().write("""
+            {
+                "error": "Service Unavailable",
+                "message": "Too many concurrent requests. Please retry shortly.",
+                "status": 503
+            }
+            """);
+            return;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new PermitReleasingListener(released));
+            } else {
+                release(released);
+            }
+        }
+    }
+
+    private void release(AtomicBoolean released) {
+        if (released.compareAndSet(false, true)) {
+            permits.release();
+        }
+    }
+
+    private class PermitReleasingListener implements AsyncListener {
+        private final AtomicBoolean released;
+
+        PermitReleasingListener(AtomicBoolean released) {
+            this.released = released;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(released);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(released);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(released);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package zeta.payments.config;
 
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,6 +21,8 @@ import java.util.List;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String JWT_FILTER_TIMER = "auth.jwt.filter";
+
     private final JwtUtil jwtUtil;
 
     public JwtAuthenticationFilter(JwtUtil jwtUtil) {
@@ -33,24 +38,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
+            Timer.Sample sample = Timer.start(Metrics.globalRegistry);
+            String outcome = "rejected";
 
             try {
-                String username = jwtUtil.extractUsername(token);
-                String role = jwtUtil.extractRole(token);
+                Claims claims = jwtUtil.verifyToken(token);
+                String username = claims.getSubject();
+                String role = claims.get("role", String.class);
 
                 if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    if (jwtUtil.validateToken(token, username)) {
-                        UsernamePasswordAuthenticationToken authToken =
-                                new UsernamePasswordAuthenticationToken(
-                                        username,
-                                        null,
-                                        List.of(new SimpleGrantedAuthority("ROLE_" + role))
-                                );
-                        SecurityContextHolder.getContext().setAuthentication(authToken);
-                    }
+                    UsernamePasswordAuthenticationToken authToken =
+                            new UsernamePasswordAuthenticationToken(
+                                    username,
+                                    null,
+                                    List.of(new SimpleGrantedAuthority("ROLE_" + role))
+                            );
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
                 }
+                outcome = "authenticated";
             } catch (Exception e) {
                 logger.error("JWT validation failed", e);
+            } finally {
+                sample.stop(Timer.builder(JWT_FILTER_TIMER)
+                        .description("Time spent verifying the bearer token of a request")
+                        .tag("outcome", outcome)
+                        .register(Metrics.globalRegistry));
             }
         }
 
@@ -1,11 +1,15 @@
 package zeta.payments.controller;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import zeta.payments.dto.request.AuditHistoryRequest;
 import zeta.payments.dto.response.AuditLifeCycleManagementResponse;
 import zeta.payments.service.AuditTrialManagementService;
 import zeta.payments.service.impl.AuditTrialManagementServiceImpl;
@@ -15,6 +19,7 @@ import java.util.logging.Logger;
 
 import static zeta.payments.commons.route.PaymentRoute.API;
 import static zeta.payments.commons.route.PaymentRoute.AUDITS;
+import static zeta.payments.commons.route.PaymentRoute.EXPORT;
 import static zeta.payments.commons.route.PaymentRoute.ID;
 import static zeta.payments.commons.route.PaymentRoute.V1;
 
@@ -37,10 +42,29 @@ public class AuditController {
         return ResponseEntityUtil.getResultWithResponseEntity(auditTrialManagementService.getAllPaymentAudit());
     }
 
+    @GetMapping(value = AUDITS + EXPORT, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('FINANCE_MANAGER')")
+    public ResponseEntity<StreamingResponseBody> exportAudits() {
+        logger.info("Exporting all payment audits as NDJSON");
+        StreamingResponseBody body = auditTrialManagementService::exportAudits;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @GetMapping(AUDITS + ID)
     @PreAuthorize("hasRole('ADMIN') or hasRole('VIEWER') or hasRole('FINANCE_MANAGER')")
-    public ResponseEntity<AuditLifeCycleManagementResponse> getAuditById(@PathVariable Long id) {
-        logger.info("Fetching payment audit with id: " + id);
-        return ResponseEntityUtil.getResultWithResponseEntity(auditTrialManagementService.getPaymentAuditById(id));
+    public ResponseEntity<AuditLifeCycleManagementResponse> getAuditById(
+            @PathVariable Long id,
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "latest", required = false) Integer latest) {
+        logger.info("Fetching payment audit with id: " + id + ", after revision: " + after + ", limit: " + limit + ", latest: " + latest);
+        return ResponseEntityUtil.getResultWithResponseEntity(auditTrialManagementService.getPaymentAuditById(id,
+                AuditHistoryRequest.builder()
+                        .after(after)
+                        .limit(limit)
+                        .latest(latest)
+                        .build()));
     }
 }
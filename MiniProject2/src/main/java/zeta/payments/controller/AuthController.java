@@ -3,7 +3,7 @@ package zeta.payments.controller;
 import zeta.payments.entity.User;
 import zeta.payments.dto.request.LoginRequest;
 import zeta.payments.dto.response.AuthResponse;
-import zeta.payments.repository.UserRepository;
+import zeta.payments.exception.PaymentManagementException;
 import zeta.payments.util.JwtUtil;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -12,23 +12,18 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Optional;
-
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
 
     private final AuthenticationManager authenticationManager;
-    private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
 
     public AuthController(AuthenticationManager authenticationManager,
-                          UserRepository userRepository,
                           PasswordEncoder passwordEncoder,
                           JwtUtil jwtUtil) {
         this.authenticationManager = authenticationManager;
-        this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
     }
@@ -40,9 +35,8 @@ public class AuthController {
                     new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
             );
 
-            Optional<User> userOpt = userRepository.getUserByUserName(request.getUsername());
-            if (userOpt.isPresent()) {
-                User user = userOpt.get();
+            // The principal is the user loadUserByUsername returned, so the token needs no second lookup.
+            if (authentication.getPrincipal() instanceof User user) {
                 String token = jwtUtil.generateToken(user.getUsername(), user.getRole().name());
 
                 return ResponseEntity.ok(AuthResponse.builder()
@@ -58,6 +52,13 @@ public class AuthController {
                     .build());
 
         } catch (Exception e) {
+            // A full password hashing pool answers 429, whether thrown directly or wrapped by the user lookup.
+            if (e instanceof PaymentManagementException overloaded) {
+                throw overloaded;
+            }
+            if (e.getCause() instanceof PaymentManagementException overloaded) {
+                throw overloaded;
+            }
             return ResponseEntity.badRequest().body(AuthResponse.builder()
                     .message("Invalid credentials")
                     .build());
@@ -2,22 +2,34 @@ package zeta.payments.controller;
 
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import zeta.payments.commons.enums.PaymentCategory;
+import zeta.payments.commons.enums.PaymentStatus;
+import zeta.payments.commons.enums.PaymentType;
+import zeta.payments.dto.request.PaymentBatchRequest;
+import zeta.payments.dto.request.PaymentSearchRequest;
 import zeta.payments.entity.Payment;
+import zeta.payments.dto.response.PaymentBatchResponse;
 import zeta.payments.dto.response.PaymentLifeCycleManagementResponse;
 import zeta.payments.dto.response.ReportResponse;
 import zeta.payments.service.PaymentManagementService;
 import zeta.payments.service.impl.PaymentManagementServiceImpl;
 import zeta.payments.util.ResponseEntityUtil;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.logging.Logger;
 import static zeta.payments.commons.route.PaymentRoute.API;
+import static zeta.payments.commons.route.PaymentRoute.BATCH;
+import static zeta.payments.commons.route.PaymentRoute.EXPORT;
 import static zeta.payments.commons.route.PaymentRoute.MONTHLY;
 import static zeta.payments.commons.route.PaymentRoute.PAYMENTS;
 import static zeta.payments.commons.route.PaymentRoute.ID;
@@ -46,17 +58,56 @@ public class PaymentController {
 
     @GetMapping(PAYMENTS)
     @PreAuthorize("hasRole('ADMIN') or hasRole('VIEWER') or hasRole('FINANCE_MANAGER')")
-    public ResponseEntity<PaymentLifeCycleManagementResponse> getAllPayments() {
-        logger.info("Fetching all payments");
-        return ResponseEntityUtil.getResultWithResponseEntity(paymentManagementService.getAllPayment());
+    public ResponseEntity<PaymentLifeCycleManagementResponse> getPayments(
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "status", required = false) PaymentStatus status,
+            @RequestParam(value = "type", required = false) PaymentType type,
+            @RequestParam(value = "category", required = false) PaymentCategory category,
+            @RequestParam(value = "currency", required = false) String currency,
+            @RequestParam(value = "createdFrom", required = false) Long createdFrom,
+            @RequestParam(value = "createdTo", required = false) Long createdTo) {
+        logger.info("Fetching payments after id: " + after + ", limit: " + limit);
+        return ResponseEntityUtil.getResultWithResponseEntity(paymentManagementService.getPayments(
+                PaymentSearchRequest.builder()
+                        .after(after)
+                        .limit(limit)
+                        .status(status)
+                        .type(type)
+                        .category(category)
+                        .currency(currency)
+                        .createdFrom(createdFrom)
+                        .createdTo(createdTo)
+                        .build()));
+    }
+
+    @GetMapping(value = PAYMENTS + EXPORT, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('FINANCE_MANAGER')")
+    public ResponseEntity<StreamingResponseBody> exportPayments() {
+        logger.info("Exporting all payments as NDJSON");
+        StreamingResponseBody body = paymentManagementService::exportPayments;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @PostMapping(PAYMENTS)
     @PreAuthorize("hasRole('FINANCE_MANAGER') or hasRole('ADMIN')")
     public ResponseEntity<PaymentLifeCycleManagementResponse> createPaymentRecord(
-            @RequestBody Payment payment) {
-        logger.info("Creating new payment record");
-        return ResponseEntityUtil.getResultWithResponseEntity(paymentManagementService.createPaymentRecord(payment));
+            @RequestBody Payment payment,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        logger.info("Creating new payment record" + (idempotencyKey == null ? "" : " with Idempotency-Key: " + idempotencyKey));
+        return ResponseEntityUtil.getResultWithResponseEntity(idempotencyKey == null
+                ? paymentManagementService.createPaymentRecord(payment)
+                : paymentManagementService.createPaymentRecord(payment, idempotencyKey));
+    }
+
+    @PostMapping(PAYMENTS + BATCH)
+    @PreAuthorize("hasRole('FINANCE_MANAGER') or hasRole('ADMIN')")
+    public ResponseEntity<PaymentBatchResponse> createPaymentRecords(
+            @RequestBody PaymentBatchRequest batchRequest) {
+        logger.info("Creating payment batch of size: " + (batchRequest.getPayments() == null ? 0 : batchRequest.getPayments().size()));
+        return ResponseEntityUtil.getResultWithResponseEntity(paymentManagementService.createPaymentRecords(batchRequest.getPayments()));
     }
 
     @PutMapping(PAYMENTS + ID)
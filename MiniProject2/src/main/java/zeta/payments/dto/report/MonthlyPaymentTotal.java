@@ -0,0 +1,18 @@
+package zeta.payments.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import zeta.payments.commons.enums.PaymentType;
+
+/**
+ * One (month, payment type, currency) group of a report period, summed in the database in minor units.
+ */
+@Getter
+@AllArgsConstructor
+public class MonthlyPaymentTotal {
+    private Integer year;
+    private Integer month;
+    private PaymentType type;
+    private String currency;
+    private Long totalAmountMinor;
+}
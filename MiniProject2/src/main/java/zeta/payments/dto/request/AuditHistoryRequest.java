@@ -0,0 +1,14 @@
+package zeta.payments.dto.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class AuditHistoryRequest {
+    private Long after;
+    private Integer limit;
+    private Integer latest;
+}
@@ -0,0 +1,11 @@
+package zeta.payments.dto.request;
+
+import lombok.Data;
+import zeta.payments.entity.Payment;
+
+import java.util.List;
+
+@Data
+public class PaymentBatchRequest {
+    private List<Payment> payments;
+}
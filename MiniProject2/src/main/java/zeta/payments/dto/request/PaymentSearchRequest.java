@@ -0,0 +1,22 @@
+package zeta.payments.dto.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import zeta.payments.commons.enums.PaymentCategory;
+import zeta.payments.commons.enums.PaymentStatus;
+import zeta.payments.commons.enums.PaymentType;
+
+@Getter
+@Setter
+@Builder
+public class PaymentSearchRequest {
+    private Long after;
+    private Integer limit;
+    private PaymentStatus status;
+    private PaymentType type;
+    private PaymentCategory category;
+    private String currency;
+    private Long createdFrom;
+    private Long createdTo;
+}
@@ -1,5 +1,6 @@
 package zeta.payments.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -14,4 +15,6 @@ public class AuditLifeCycleManagementResponse {
     String message;
     List<Audit> audits;
     String status;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Long nextCursor;
 }
@@ -0,0 +1,31 @@
+package zeta.payments.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+public class PaymentBatchResponse {
+    private String message;
+    private String status;
+    private int created;
+    private int failed;
+    private List<ItemResult> results;
+
+    /** Outcome for the payment at {@code index} in the request. */
+    @Getter
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ItemResult {
+        private int index;
+        private String status;
+        private Long paymentId;
+        private String message;
+    }
+}
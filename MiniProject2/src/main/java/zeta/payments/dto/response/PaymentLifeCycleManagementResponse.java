@@ -1,8 +1,10 @@
 package zeta.payments.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.extern.jackson.Jacksonized;
 import zeta.payments.entity.Payment;
 
 import java.util.List;
@@ -10,8 +12,11 @@ import java.util.List;
 @Setter
 @Getter
 @Builder
+@Jacksonized
 public class PaymentLifeCycleManagementResponse {
     String message;
     List<Payment> payments;
     String status;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Long nextCursor;
 }
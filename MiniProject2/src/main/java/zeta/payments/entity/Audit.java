@@ -1,6 +1,7 @@
 package zeta.payments.entity;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
@@ -13,6 +14,8 @@ import lombok.NoArgsConstructor;
 import zeta.payments.commons.enums.PaymentCategory;
 import zeta.payments.commons.enums.PaymentStatus;
 import zeta.payments.commons.enums.PaymentType;
+import zeta.payments.commons.money.Money;
+import zeta.payments.commons.money.MoneyConverter;
 
 import java.io.Serializable;
 
@@ -28,8 +31,9 @@ public class Audit {
     @Column(name = "revision_type")
     private String revisionType;
 
-    @Column(name = "amount")
-    private String amount;
+    @Convert(converter = MoneyConverter.class)
+    @Column(name = "amount_minor")
+    private Money amount;
 
     @Column(name = "currency")
     private String currency;
@@ -2,6 +2,7 @@ package zeta.payments.entity;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -11,6 +12,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -20,6 +22,8 @@ import lombok.ToString;
 import zeta.payments.commons.enums.PaymentCategory;
 import zeta.payments.commons.enums.PaymentStatus;
 import zeta.payments.commons.enums.PaymentType;
+import zeta.payments.commons.money.Money;
+import zeta.payments.commons.money.MoneyConverter;
 
 
 @Entity
@@ -32,12 +36,15 @@ import zeta.payments.commons.enums.PaymentType;
 public class Payment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_id_generator")
+    @SequenceGenerator(name = "payment_id_generator", schema = "payment_system",
+            sequenceName = "payment_details_id_seq", allocationSize = 50)
     @Column(name = "payment_id")
     private Long id;
 
-    @Column(name = "amount")
-    private String amount;
+    @Convert(converter = MoneyConverter.class)
+    @Column(name = "amount_minor")
+    private Money amount;
 
     @Column(name = "currency")
     private String currency;
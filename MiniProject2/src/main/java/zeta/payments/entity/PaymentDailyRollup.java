@@ -0,0 +1,54 @@
+package zeta.payments.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import zeta.payments.commons.enums.PaymentType;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Per day, type and currency totals of payment_details, with days taken in UTC. Rows are maintained by the
+ * maintain_payment_daily_rollup trigger and are read-only from the application.
+ */
+@Entity
+@Immutable
+@Table(name = "payment_daily_rollup", schema = "payment_system")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentDailyRollup {
+    @EmbeddedId
+    private RollupId id;
+
+    @Column(name = "total_amount_minor")
+    private Long totalAmountMinor;
+
+    @Column(name = "payment_count")
+    private Long paymentCount;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RollupId implements Serializable {
+        @Column(name = "rollup_day")
+        private LocalDate rollupDay;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "payment_type")
+        private PaymentType type;
+
+        @Column(name = "currency")
+        private String currency;
+    }
+}
@@ -0,0 +1,52 @@
+package zeta.payments.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Stored response of a payment creation request, keyed by the client's Idempotency-Key header and the user who
+ * sent it.
+ */
+@Entity
+@IdClass(PaymentIdempotency.ScopedKey.class)
+@Table(name = "payment_idempotency", schema = "payment_system")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentIdempotency {
+    @Id
+    @Column(name = "idempotency_key")
+    private String idempotencyKey;
+
+    @Column(name = "request_hash")
+    private String requestHash;
+
+    @Column(name = "payment_id")
+    private Long paymentId;
+
+    @Column(name = "response_body")
+    private String responseBody;
+
+    @Id
+    @Column(name = "created_by")
+    private String createdBy;
+
+    @Column(name = "created_at", updatable = false, insertable = false)
+    private Long createdAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ScopedKey implements Serializable {
+        private String idempotencyKey;
+        private String createdBy;
+    }
+}
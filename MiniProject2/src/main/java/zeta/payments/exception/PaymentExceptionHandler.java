@@ -9,7 +9,11 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 public class PaymentExceptionHandler extends ResponseEntityExceptionHandler {
     @ExceptionHandler(PaymentManagementException.class)
     public ResponseEntity<ErrorResponse> handleTisMandateException(PaymentManagementException ex) {
-        return ResponseEntity.status(ex.getHttpStatus()).body(ErrorResponse.builder()
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(ex.getHttpStatus());
+        if (ex.getHttpStatus() == 429) {
+            response.header("Retry-After", "1");
+        }
+        return response.body(ErrorResponse.builder()
                 .code(ex.getHttpStatus())
                 .status(ex.getStatus())
                 .message(ex.getDescription())
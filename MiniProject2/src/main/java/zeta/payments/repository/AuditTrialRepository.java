@@ -1,17 +1,42 @@
 package zeta.payments.repository;
 
-import jakarta.websocket.server.PathParam;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import zeta.payments.entity.Audit;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface AuditTrialRepository extends JpaRepository<Audit, Long> {
-    @Modifying
-    @Transactional
-    @Query("SELECT a FROM Audit a WHERE a.id = :paymentId")
-    List<Audit> findByPaymentId(@PathParam("paymentId") Long paymentId);
+    /**
+     * Keyset page of one payment's revision history, oldest first. Seeks audit_trail_pkey on
+     * (payment_id, revision_count), so a page costs the same however long the history is.
+     */
+    @Query("SELECT a FROM Audit a WHERE a.id.paymentId = :paymentId AND a.id.revisionCount > :afterRevision " +
+            "ORDER BY a.id.revisionCount ASC")
+    List<Audit> findRevisionsAfter(@Param("paymentId") Long paymentId,
+                                   @Param("afterRevision") Long afterRevision,
+                                   Limit limit);
+
+    /**
+     * The newest revisions of one payment, newest first, read backwards along the same primary key prefix.
+     */
+    @Query("SELECT a FROM Audit a WHERE a.id.paymentId = :paymentId ORDER BY a.id.revisionCount DESC")
+    List<Audit> findLatestRevisions(@Param("paymentId") Long paymentId, Limit limit);
+
+    /**
+     * Forward-only cursor over the whole audit trail for bulk export. Must be consumed inside a
+     * transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Audit a ORDER BY a.id.paymentId ASC, a.id.revisionCount ASC")
+    Stream<Audit> streamAllAudits();
 }
@@ -0,0 +1,29 @@
+package zeta.payments.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import zeta.payments.dto.report.MonthlyPaymentTotal;
+import zeta.payments.entity.PaymentDailyRollup;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PaymentDailyRollupRepository extends JpaRepository<PaymentDailyRollup, PaymentDailyRollup.RollupId> {
+
+    /**
+     * Folds the daily rollups of a period into one row per month, payment type and currency, so only the
+     * grouped totals leave the database. Rollup days are UTC days, so the months are UTC months.
+     */
+    @Query("SELECT new zeta.payments.dto.report.MonthlyPaymentTotal(" +
+            "extract(year from r.id.rollupDay), extract(month from r.id.rollupDay), " +
+            "r.id.type, r.id.currency, SUM(r.totalAmountMinor)) " +
+            "FROM PaymentDailyRollup r WHERE r.id.rollupDay BETWEEN :startDate AND :endDate " +
+            "GROUP BY extract(year from r.id.rollupDay), extract(month from r.id.rollupDay), r.id.type, r.id.currency " +
+            "HAVING SUM(r.paymentCount) > 0 " +
+            "ORDER BY extract(year from r.id.rollupDay), extract(month from r.id.rollupDay)")
+    List<MonthlyPaymentTotal> sumPaymentsByMonth(@Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,44 @@
+package zeta.payments.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import zeta.payments.entity.PaymentIdempotency;
+
+import java.util.Optional;
+
+@Repository
+public interface PaymentIdempotencyRepository extends JpaRepository<PaymentIdempotency, PaymentIdempotency.ScopedKey> {
+
+    Optional<PaymentIdempotency> findByCreatedByAndIdempotencyKey(String createdBy, String idempotencyKey);
+
+    /**
+     * Claims a user's key for the current transaction. Returns 0 if the key is already stored; if another
+     * transaction holds an uncommitted claim, PostgreSQL waits for it to finish first.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO payment_system.payment_idempotency (idempotency_key, request_hash, created_by) " +
+            "VALUES (:key, :requestHash, :createdBy) ON CONFLICT (created_by, idempotency_key) DO NOTHING",
+            nativeQuery = true)
+    int claimKey(@Param("key") String key,
+                 @Param("requestHash") String requestHash,
+                 @Param("createdBy") String createdBy);
+
+    @Modifying
+    @Query("UPDATE PaymentIdempotency i SET i.paymentId = :paymentId, i.responseBody = :responseBody " +
+            "WHERE i.createdBy = :createdBy AND i.idempotencyKey = :key")
+    int storeResponse(@Param("createdBy") String createdBy,
+                      @Param("key") String key,
+                      @Param("paymentId") Long paymentId,
+                      @Param("responseBody") String responseBody);
+
+    /** Deletes up to {@code batchSize} keys created before {@code cutoff} and returns how many were deleted. */
+    @Modifying
+    @Query(value = "DELETE FROM payment_system.payment_idempotency WHERE ctid IN (" +
+            "SELECT ctid FROM payment_system.payment_idempotency WHERE created_at < :cutoff LIMIT :batchSize)",
+            nativeQuery = true)
+    int deleteCreatedBefore(@Param("cutoff") long cutoff,
+                            @Param("batchSize") int batchSize);
+}
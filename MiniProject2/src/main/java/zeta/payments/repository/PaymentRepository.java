@@ -1,22 +1,66 @@
 package zeta.payments.repository;
 
+import zeta.payments.commons.enums.PaymentCategory;
+import zeta.payments.commons.enums.PaymentStatus;
+import zeta.payments.commons.enums.PaymentType;
+import jakarta.persistence.QueryHint;
 import zeta.payments.entity.Payment;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
 
-    @Modifying
-    @Transactional
+    /**
+     * Forward-only cursor over the payments created in a period, for folding into a report without holding the
+     * period in memory. Must be consumed inside a transaction and closed, like {@link #streamAllPayments()}.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
     @Query("SELECT p FROM Payment p WHERE p.createdAt BETWEEN :startDateEpoch AND :endDateEpoch")
-    List<Payment> findPaymentsBetween(@Param("startDateEpoch")Long startDateEpoch,
-                                                         @Param("endDateEpoch")Long endDateEpoch);
+    Stream<Payment> findPaymentsBetween(@Param("startDateEpoch") Long startDateEpoch,
+                                        @Param("endDateEpoch") Long endDateEpoch);
+
+    /**
+     * Keyset page over payment_details: walks the primary key index from {@code after} onwards, so the
+     * cost of a page does not grow with how deep the client has paged. Null filters are ignored.
+     */
+    @Query("SELECT p FROM Payment p WHERE p.id > :after " +
+            "AND (:status IS NULL OR p.status = :status) " +
+            "AND (:type IS NULL OR p.type = :type) " +
+            "AND (:category IS NULL OR p.category = :category) " +
+            "AND (:currency IS NULL OR p.currency = :currency) " +
+            "AND (:createdFrom IS NULL OR p.createdAt >= :createdFrom) " +
+            "AND (:createdTo IS NULL OR p.createdAt <= :createdTo) " +
+            "ORDER BY p.id ASC")
+    List<Payment> findPaymentsAfter(@Param("after") Long after,
+                                    @Param("status") PaymentStatus status,
+                                    @Param("type") PaymentType type,
+                                    @Param("category") PaymentCategory category,
+                                    @Param("currency") String currency,
+                                    @Param("createdFrom") Long createdFrom,
+                                    @Param("createdTo") Long createdTo,
+                                    Limit limit);
+
+    /**
+     * Forward-only cursor over every payment for bulk export. Must be consumed inside a transaction and
+     * closed; rows are fetched from the server in batches of the fetch size rather than all at once.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Payment p ORDER BY p.id ASC")
+    Stream<Payment> streamAllPayments();
 }
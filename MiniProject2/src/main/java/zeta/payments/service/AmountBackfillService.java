@@ -0,0 +1,5 @@
+package zeta.payments.service;
+
+public interface AmountBackfillService {
+    long backfillAmounts();
+}
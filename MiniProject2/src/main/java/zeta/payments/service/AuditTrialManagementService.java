@@ -1,8 +1,12 @@
 package zeta.payments.service;
 
+import zeta.payments.dto.request.AuditHistoryRequest;
 import zeta.payments.dto.response.AuditLifeCycleManagementResponse;
 
+import java.io.OutputStream;
+
 public interface AuditTrialManagementService {
-    AuditLifeCycleManagementResponse getPaymentAuditById(Long id);
+    AuditLifeCycleManagementResponse getPaymentAuditById(Long id, AuditHistoryRequest historyRequest);
     AuditLifeCycleManagementResponse getAllPaymentAudit();
+    void exportAudits(OutputStream outputStream);
 }
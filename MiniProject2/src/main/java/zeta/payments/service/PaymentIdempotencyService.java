@@ -0,0 +1,13 @@
+package zeta.payments.service;
+
+import zeta.payments.dto.response.PaymentLifeCycleManagementResponse;
+import zeta.payments.entity.Payment;
+
+import java.util.function.Supplier;
+
+public interface PaymentIdempotencyService {
+    PaymentLifeCycleManagementResponse execute(String idempotencyKey, Payment payment,
+                                               Supplier<PaymentLifeCycleManagementResponse> createPayment);
+
+    long purgeExpiredKeys();
+}
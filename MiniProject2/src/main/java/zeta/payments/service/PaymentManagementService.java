@@ -1,16 +1,24 @@
 package zeta.payments.service;
 
+import zeta.payments.dto.request.PaymentSearchRequest;
+import zeta.payments.dto.response.PaymentBatchResponse;
 import zeta.payments.dto.response.PaymentLifeCycleManagementResponse;
 import zeta.payments.dto.response.ReportResponse;
 import zeta.payments.entity.Payment;
 
+import java.io.OutputStream;
+import java.util.List;
+
 
 public interface PaymentManagementService {
     PaymentLifeCycleManagementResponse createPaymentRecord(Payment payment);
+    PaymentLifeCycleManagementResponse createPaymentRecord(Payment payment, String idempotencyKey);
+    PaymentBatchResponse createPaymentRecords(List<Payment> payments);
     PaymentLifeCycleManagementResponse updatePayment(String id, Payment payment);
     ReportResponse generateMonthlyReport(Long month, Long year);
     ReportResponse generateQuarterlyReport(Long quarter, Long year);
-    PaymentLifeCycleManagementResponse getAllPayment();
+    PaymentLifeCycleManagementResponse getPayments(PaymentSearchRequest searchRequest);
     PaymentLifeCycleManagementResponse getPaymentById(Long id);
     PaymentLifeCycleManagementResponse deletePaymentById(Long id);
+    void exportPayments(OutputStream outputStream);
 }
@@ -0,0 +1,88 @@
+package zeta.payments.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import zeta.payments.service.AmountBackfillService;
+
+import java.util.logging.Logger;
+
+/**
+ * Converts varchar amounts written before the minor-unit migration into amount_minor. Each chunk is its own
+ * short transaction so row locks are held briefly and the work can be resumed after a restart.
+ */
+@Service
+@ConditionalOnProperty(name = "payments.amount-backfill.enabled", havingValue = "true")
+public class AmountBackfillServiceImpl implements AmountBackfillService {
+
+    private static final String AMOUNT_PATTERN = "'^-?[0-9]+(\\.[0-9]{1,2})?$'";
+
+    private static final String MARK_BACKFILL_SESSION =
+            "SELECT set_config('payment_system.amount_backfill', 'on', true)";
+
+    private static final String BACKFILL_PAYMENTS_CHUNK =
+            "UPDATE payment_system.payment_details SET amount_minor = round(amount::numeric * 100)::bigint " +
+            "WHERE payment_id IN (SELECT payment_id FROM payment_system.payment_details " +
+            "WHERE amount_minor IS NULL AND amount ~ " + AMOUNT_PATTERN + " LIMIT ? FOR UPDATE SKIP LOCKED)";
+
+    private static final String BACKFILL_AUDITS_CHUNK =
+            "UPDATE payment_system.audit_trail SET amount_minor = round(amount::numeric * 100)::bigint " +
+            "WHERE (payment_id, revision_count) IN (SELECT payment_id, revision_count FROM payment_system.audit_trail " +
+            "WHERE amount_minor IS NULL AND amount ~ " + AMOUNT_PATTERN + " LIMIT ? FOR UPDATE SKIP LOCKED)";
+
+    private static final String COUNT_UNCONVERTED =
+            "SELECT COUNT(*) FROM payment_system.%s WHERE amount_minor IS NULL AND amount IS NOT NULL";
+
+    Logger logger = Logger.getLogger(AmountBackfillServiceImpl.class.getName());
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${payments.amount-backfill.chunk-size:1000}")
+    private int chunkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            long converted = backfillAmounts();
+            logger.info("Amount backfill finished, converted " + converted + " rows");
+        } catch (Exception e) {
+            logger.severe("Amount backfill failed, it will resume on the next start: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public long backfillAmounts() {
+        return backfillTable("payment_details", BACKFILL_PAYMENTS_CHUNK)
+                + backfillTable("audit_trail", BACKFILL_AUDITS_CHUNK);
+    }
+
+    private long backfillTable(String table, String chunkSql) {
+        long converted = 0;
+        int updated;
+        do {
+            updated = transactionTemplate.execute(status -> {
+                jdbcTemplate.queryForObject(MARK_BACKFILL_SESSION, String.class);
+                return jdbcTemplate.update(chunkSql, chunkSize);
+            });
+            converted += updated;
+            if (updated > 0) {
+                logger.info("Backfilled " + converted + " amounts in " + table);
+            }
+        } while (updated > 0);
+
+        Long unconverted = jdbcTemplate.queryForObject(String.format(COUNT_UNCONVERTED, table), Long.class);
+        if (unconverted != null && unconverted > 0) {
+            logger.warning(unconverted + " amounts in " + table + " are not valid decimals and were left unconverted");
+        }
+        return converted;
+    }
+}
@@ -0,0 +1,68 @@
+package zeta.payments.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import zeta.payments.service.AuditOutboxService;
+
+import java.util.logging.Logger;
+
+/**
+ * Background writer for the outbox audit mode. Payment transactions only append their revisions to audit_outbox;
+ * this moves them into audit_trail in batches, each batch a single DELETE ... RETURNING / INSERT statement in
+ * its own transaction. Revision numbers are assigned by the trigger when the outbox row is written, so batches
+ * can be drained in any order and by several instances at once (SKIP LOCKED keeps them apart).
+ */
+@Service
+@ConditionalOnProperty(name = "payments.audit.mode", havingValue = "outbox")
+public class AuditOutboxServiceImpl implements AuditOutboxService {
+
+    private static final String AUDIT_COLUMNS = "payment_id, revision_count, revision_type, amount, amount_minor, " +
+            "currency, payment_type, category, created_by, account_name, status, created_at, updated_at";
+
+    // A revision that is already in audit_trail is skipped rather than failing the whole batch forever.
+    private static final String DRAIN_OUTBOX_BATCH =
+            "WITH batch AS (DELETE FROM payment_system.audit_outbox WHERE outbox_id IN (" +
+            "SELECT outbox_id FROM payment_system.audit_outbox ORDER BY outbox_id LIMIT ? FOR UPDATE SKIP LOCKED) " +
+            "RETURNING " + AUDIT_COLUMNS + ") " +
+            "INSERT INTO payment_system.audit_trail (" + AUDIT_COLUMNS + ") " +
+            "SELECT " + AUDIT_COLUMNS + " FROM batch ON CONFLICT DO NOTHING";
+
+    Logger logger = Logger.getLogger(AuditOutboxServiceImpl.class.getName());
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${payments.audit.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${payments.audit.outbox.poll-interval-ms:500}")
+    public void drainOnSchedule() {
+        try {
+            long drained = drainOutbox();
+            if (drained > 0) {
+                logger.fine("Drained " + drained + " audit revisions from the outbox");
+            }
+        } catch (Exception e) {
+            logger.severe("Audit outbox drain failed, it will be retried: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public long drainOutbox() {
+        long drained = 0;
+        int written;
+        do {
+            written = transactionTemplate.execute(status -> jdbcTemplate.update(DRAIN_OUTBOX_BATCH, batchSize));
+            drained += written;
+        } while (written == batchSize);
+        return drained;
+    }
+}
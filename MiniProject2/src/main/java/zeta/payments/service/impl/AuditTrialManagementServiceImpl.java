@@ -1,7 +1,14 @@
 package zeta.payments.service.impl;
 
+import io.micrometer.core.annotation.Timed;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import zeta.payments.dto.request.AuditHistoryRequest;
 import zeta.payments.dto.response.AuditLifeCycleManagementResponse;
 import zeta.payments.entity.Audit;
 import zeta.payments.entity.Payment;
@@ -9,28 +16,77 @@ import zeta.payments.exception.PaymentManagementException;
 import zeta.payments.repository.AuditTrialRepository;
 import zeta.payments.service.AuditTrialManagementService;
 
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static zeta.payments.util.NdjsonExportUtil.writeNdjson;
 
 @Component
+@Timed("payments.service")
 public class AuditTrialManagementServiceImpl implements AuditTrialManagementService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+
     Logger logger = Logger.getLogger(AuditTrialManagementServiceImpl.class.getName());
 
     @Autowired
     private AuditTrialRepository auditTrialRepository;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Pages through a payment's revisions oldest first, resuming after the {@code after} revision, or with
+     * {@code latest} returns only the newest N revisions (still oldest first) and no cursor. {@code latest} already
+     * sets the page size, so it cannot be combined with {@code after} or {@code limit}.
+     */
     @Override
-    public AuditLifeCycleManagementResponse getPaymentAuditById(Long id) {
+    public AuditLifeCycleManagementResponse getPaymentAuditById(Long id, AuditHistoryRequest historyRequest) {
         logger.info("Fetching audit records for payment ID: " + id);
+        Integer latest = historyRequest.getLatest();
+        int limit = latest != null ? latest
+                : historyRequest.getLimit() == null ? DEFAULT_PAGE_SIZE : historyRequest.getLimit();
+        if (latest != null && historyRequest.getAfter() != null) {
+            logger.warning("Both after and latest requested for payment ID: " + id);
+            throw new PaymentManagementException(400, "after and latest cannot be combined", "FAILURE");
+        }
+        if (latest != null && historyRequest.getLimit() != null) {
+            logger.warning("Both limit and latest requested for payment ID: " + id);
+            throw new PaymentManagementException(400, "limit and latest cannot be combined", "FAILURE");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            logger.warning("Invalid audit page size requested: " + limit);
+            throw new PaymentManagementException(400, "Limit must be between 1 and " + MAX_PAGE_SIZE, "FAILURE");
+        }
         try {
-            List<Audit> audits = auditTrialRepository.findByPaymentId(id);
-            logger.info("Successfully fetched " + audits.size() + " audit records");
+            List<Audit> audits;
+            Long nextCursor = null;
+            if (latest != null) {
+                audits = new ArrayList<>(auditTrialRepository.findLatestRevisions(id, Limit.of(limit)));
+                Collections.reverse(audits);
+            } else {
+                long after = historyRequest.getAfter() == null ? 0L : historyRequest.getAfter();
+                audits = auditTrialRepository.findRevisionsAfter(id, after, Limit.of(limit + 1));
+                if (audits.size() > limit) {
+                    audits = audits.subList(0, limit);
+                    nextCursor = audits.get(limit - 1).getId().getRevisionCount();
+                }
+            }
+            logger.info("Successfully fetched " + audits.size() + " audit records, next cursor: " + nextCursor);
             return AuditLifeCycleManagementResponse.builder()
                     .message("Audit records fetched successfully")
                     .audits(audits)
                     .status("success")
+                    .nextCursor(nextCursor)
                     .build();
         } catch (Exception e) {
             logger.severe("Error fetching all audit records - " + e.getMessage());
@@ -54,4 +110,17 @@ public class AuditTrialManagementServiceImpl implements AuditTrialManagementServ
             throw new PaymentManagementException(500, "Internal Server Error", "FAILURE");
         }
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAudits(OutputStream outputStream) {
+        logger.info("Exporting all audit records");
+        try (Stream<Audit> audits = auditTrialRepository.streamAllAudits()) {
+            long exported = writeNdjson(audits, outputStream, objectMapper, entityManager::detach);
+            logger.info("Exported " + exported + " audit records");
+        } catch (Exception e) {
+            logger.severe("Error exporting audit records - " + e.getMessage());
+            throw new PaymentManagementException(500, "Internal Server Error", "FAILURE");
+        }
+    }
 }
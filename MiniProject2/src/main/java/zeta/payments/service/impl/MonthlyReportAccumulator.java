@@ -0,0 +1,53 @@
+package zeta.payments.service.impl;
+
+import zeta.payments.commons.enums.PaymentType;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Per-month incoming and outgoing sums of a report, in INR minor units, keyed by
+ * {@link zeta.payments.util.DateUtil#monthBucket(int, int)}. Rows are folded in one at a time, so a report needs
+ * memory for its months rather than for its payments. Only months that received a row are reported.
+ */
+final class MonthlyReportAccumulator {
+
+    private static final int INCOMING = 0;
+    private static final int OUTGOING = 1;
+
+    private final TreeMap<Integer, long[]> sumsByMonth = new TreeMap<>();
+    private long totalIncomingMinor;
+    private long totalOutgoingMinor;
+
+    public void add(int monthBucket, PaymentType type, long amountMinor) {
+        long[] sums = sumsByMonth.computeIfAbsent(monthBucket, month -> new long[2]);
+        if (type == PaymentType.INCOMING) {
+            sums[INCOMING] += amountMinor;
+            totalIncomingMinor += amountMinor;
+        } else if (type == PaymentType.OUTGOING) {
+            sums[OUTGOING] += amountMinor;
+            totalOutgoingMinor += amountMinor;
+        }
+    }
+
+    public boolean isEmpty() {
+        return sumsByMonth.isEmpty();
+    }
+
+    /** Visits each month in calendar order with its {@code {incoming, outgoing}} sums. */
+    public void forEachMonth(BiConsumer<Integer, long[]> action) {
+        for (Map.Entry<Integer, long[]> month : sumsByMonth.entrySet()) {
+            long[] sums = month.getValue();
+            action.accept(month.getKey(), new long[]{sums[INCOMING], sums[OUTGOING]});
+        }
+    }
+
+    public long getTotalIncomingMinor() {
+        return totalIncomingMinor;
+    }
+
+    public long getTotalOutgoingMinor() {
+        return totalOutgoingMinor;
+    }
+}
@@ -0,0 +1,74 @@
+package zeta.payments.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import zeta.payments.service.PartitionMaintenanceService;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the monthly partitions of payment_details and audit_trail ahead of the clock, so new rows never land in
+ * the default partition, and archives partitions that have left the retention window. A retention of 0 keeps
+ * every month. Runs at startup and then daily; both SQL functions are idempotent.
+ */
+@Service
+@ConditionalOnProperty(name = "payments.partitions.maintenance.enabled", havingValue = "true")
+public class PartitionMaintenanceServiceImpl implements PartitionMaintenanceService {
+
+    private static final List<String> PARTITIONED_TABLES = List.of("payment_details", "audit_trail");
+
+    private static final String CREATE_PARTITIONS =
+            "SELECT payment_system.create_monthly_partitions(?, current_date, ?)";
+
+    private static final String ARCHIVE_PARTITIONS =
+            "SELECT payment_system.archive_monthly_partitions(?, ?)";
+
+    Logger logger = Logger.getLogger(PartitionMaintenanceServiceImpl.class.getName());
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${payments.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${payments.partitions.payment-retention-months:0}")
+    private int paymentRetentionMonths;
+
+    @Value("${payments.partitions.audit-retention-months:0}")
+    private int auditRetentionMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${payments.partitions.maintenance.cron:0 15 2 * * *}")
+    public void onSchedule() {
+        try {
+            maintainPartitions();
+        } catch (Exception e) {
+            logger.severe("Partition maintenance failed, it will be retried on the next run: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void maintainPartitions() {
+        for (String table : PARTITIONED_TABLES) {
+            Integer created = jdbcTemplate.queryForObject(CREATE_PARTITIONS, Integer.class, table, monthsAhead);
+            if (created != null && created > 0) {
+                logger.info("Created " + created + " monthly partitions for " + table);
+            }
+
+            int retentionMonths = "payment_details".equals(table) ? paymentRetentionMonths : auditRetentionMonths;
+            if (retentionMonths > 0) {
+                Integer archived = jdbcTemplate.queryForObject(ARCHIVE_PARTITIONS, Integer.class, table, retentionMonths);
+                if (archived != null && archived > 0) {
+                    logger.info("Archived " + archived + " monthly partitions of " + table + " to payment_archive");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package zeta.payments.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import zeta.payments.dto.response.PaymentLifeCycleManagementResponse;
+import zeta.payments.entity.Payment;
+import zeta.payments.exception.PaymentManagementException;
+import zeta.payments.repository.PaymentIdempotencyRepository;
+import zeta.payments.service.PaymentIdempotencyService;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Replays the stored response for a repeated Idempotency-Key instead of creating the payment again. Recent
+ * keys are answered from a bounded in-memory cache; older ones, and keys created by other instances, from the
+ * payment_idempotency table. A new key is claimed in the same transaction as the payment insert, so the
+ * payment and its stored response commit or roll back together. Keys are scoped to the authenticated user, and
+ * stored keys older than the retention are purged daily in batches; a retention of 0 keeps every key.
+ */
+@Service
+public class PaymentIdempotencyServiceImpl implements PaymentIdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    Logger logger = Logger.getLogger(PaymentIdempotencyServiceImpl.class.getName());
+
+    @Autowired
+    private PaymentIdempotencyRepository paymentIdempotencyRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${payments.idempotency.retention:7d}")
+    private Duration retention = Duration.ofDays(7);
+
+    @Value("${payments.idempotency.purge.batch-size:1000}")
+    private int purgeBatchSize = 1000;
+
+    private final Cache<ScopedKey, StoredResponse> recentResponses;
+
+    public PaymentIdempotencyServiceImpl(@Value("${payments.idempotency.cache.maximum-size:10000}") long maximumSize,
+                                         @Value("${payments.idempotency.cache.expire-after-write:24h}") Duration expireAfterWrite) {
+        this.recentResponses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, recentResponses, "payments.idempotency.cache");
+    }
+
+    @Override
+    public PaymentLifeCycleManagementResponse execute(String idempotencyKey, Payment payment,
+                                                      Supplier<PaymentLifeCycleManagementResponse> createPayment) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new PaymentManagementException(400, "Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters", "FAILURE");
+        }
+        String requestHash = hashRequest(payment);
+        ScopedKey key = new ScopedKey(currentUserName(), idempotencyKey);
+
+        StoredResponse stored = findStoredResponse(key);
+        if (stored != null) {
+            return replay(idempotencyKey, stored, requestHash);
+        }
+
+        CreatedResponse created = transactionTemplate.execute(status -> {
+            if (paymentIdempotencyRepository.claimKey(idempotencyKey, requestHash, key.createdBy()) == 0) {
+                return null;
+            }
+            PaymentLifeCycleManagementResponse response = createPayment.get();
+            String responseBody = toJson(response);
+            paymentIdempotencyRepository.storeResponse(key.createdBy(), idempotencyKey, payment.getId(), responseBody);
+            return new CreatedResponse(response, new StoredResponse(requestHash, responseBody));
+        });
+
+        if (created == null) {
+            // A concurrent request from the same user with the same key committed first; answer with its response.
+            StoredResponse winner = findStoredResponse(key);
+            if (winner == null) {
+                throw new PaymentManagementException(409, "A request with this Idempotency-Key is still in progress", "FAILURE");
+            }
+            return replay(idempotencyKey, winner, requestHash);
+        }
+        recentResponses.put(key, created.stored());
+        return created.response();
+    }
+
+    @Scheduled(cron = "${payments.idempotency.purge.cron:0 45 2 * * *}")
+    public void purgeOnSchedule() {
+        try {
+            long purged = purgeExpiredKeys();
+            if (purged > 0) {
+                logger.info("Purged " + purged + " idempotency keys older than " + retention);
+            }
+        } catch (Exception e) {
+            logger.severe("Idempotency key purge failed, it will be retried on the next run: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public long purgeExpiredKeys() {
+        if (retention.isZero()) {
+            return 0;
+        }
+        long cutoff = System.currentTimeMillis() - retention.toMillis();
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status ->
+                    paymentIdempotencyRepository.deleteCreatedBefore(cutoff, purgeBatchSize));
+            purged += deleted;
+        } while (deleted == purgeBatchSize);
+        return purged;
+    }
+
+    private StoredResponse findStoredResponse(ScopedKey key) {
+        StoredResponse stored = recentResponses.getIfPresent(key);
+        if (stored != null) {
+            return stored;
+        }
+        stored = paymentIdempotencyRepository.findByCreatedByAndIdempotencyKey(key.createdBy(), key.idempotencyKey())
+                .filter(record -> record.getResponseBody() != null)
+                .map(record -> new StoredResponse(record.getRequestHash(), record.getResponseBody()))
+                .orElse(null);
+        if (stored != null) {
+            recentResponses.put(key, stored);
+        }
+        return stored;
+    }
+
+    private PaymentLifeCycleManagementResponse replay(String idempotencyKey, StoredResponse stored, String requestHash) {
+        if (!stored.requestHash().equals(requestHash)) {
+            logger.warning("Idempotency-Key reused with a different request: " + idempotencyKey);
+            throw new PaymentManagementException(422, "Idempotency-Key was already used for a different request", "FAILURE");
+        }
+        logger.info("Replaying stored response for Idempotency-Key: " + idempotencyKey);
+        try {
+            return objectMapper.readValue(stored.responseBody(), PaymentLifeCycleManagementResponse.class);
+        } catch (JsonProcessingException e) {
+            logger.severe("Stored response for Idempotency-Key " + idempotencyKey + " is unreadable: " + e.getMessage());
+            throw new PaymentManagementException(500, "Internal Server Error", "FAILURE");
+        }
+    }
+
+    private String hashRequest(Payment payment) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(payment));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            logger.severe("Error hashing payment request: " + e.getMessage());
+            throw new PaymentManagementException(500, "Internal Server Error", "FAILURE");
+        }
+    }
+
+    private String toJson(PaymentLifeCycleManagementResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            logger.severe("Error serialising payment response: " + e.getMessage());
+            throw new PaymentManagementException(500, "Internal Server Error", "FAILURE");
+        }
+    }
+
+    private String currentUserName() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? "" : authentication.getName();
+    }
+
+    private record ScopedKey(String createdBy, String idempotencyKey) {
+    }
+
+    private record StoredResponse(String requestHash, String responseBody) {
+    }
+
+    private record CreatedResponse(PaymentLifeCycleManagementResponse response, StoredResponse stored) {
+    }
+}
@@ -1,5 +1,10 @@
 package zeta.payments.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import zeta.payments.exception.PaymentManagementException;
 import zeta.payments.dto.response.UserLifeCycleManagementResponse;
 import zeta.payments.commons.enums.UserRole;
@@ -7,20 +12,21 @@ import zeta.payments.repository.UserRepository;
 import zeta.payments.entity.User;
 import zeta.payments.service.UserManagementService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 
-import static zeta.payments.util.PasswordUtil.checkPassword;
-import static zeta.payments.util.PasswordUtil.hashPassword;
-
 @Service
+@Timed("payments.service")
 public class UserManagementServiceImpl implements UserManagementService, UserDetailsService {
 
     Logger logger = Logger.getLogger(UserManagementServiceImpl.class.getName());
@@ -28,12 +34,30 @@ public class UserManagementServiceImpl implements UserManagementService, UserDet
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private final Cache<String, User> principalsByUserName;
+
+    /**
+     * Builds the principal cache behind {@link #loadUserByUsername(String)}, so logins by warm users do not
+     * query user_details. Role and password changes made through this service evict the user; changes made by
+     * other instances show up once the entry expires.
+     */
+    public UserManagementServiceImpl(@Value("${payments.user-cache.maximum-size:10000}") long userCacheMaximumSize,
+                                     @Value("${payments.user-cache.expire-after-write:5m}") Duration userCacheExpireAfterWrite) {
+        this.principalsByUserName = Caffeine.newBuilder()
+                .maximumSize(userCacheMaximumSize)
+                .expireAfterWrite(userCacheExpireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, principalsByUserName, "auth.user.cache");
+    }
+
     @Override
     public UserLifeCycleManagementResponse createUser(User user) {
         try {
             logger.info("Creating user with username: " + user.getUsername());
-            String hashedPassword = hashPassword(user.getPassword());
-            user.setPassword(hashedPassword);
             user.setRole(UserRole.VIEWER);
             Optional<User> existingUser = userRepository.getUserByUserName(user.getUsername());
 
@@ -43,6 +67,8 @@ public class UserManagementServiceImpl implements UserManagementService, UserDet
             if (existingUser.isPresent())
                 throw new PaymentManagementException(409, "User already exists with username: " + user.getUsername(), "FAILURE");
 
+            // Hashed only once the request is known to be valid, so rejected sign-ups cost no BCrypt round.
+            user.setPassword(passwordEncoder.encode(user.getPassword()));
             userRepository.save(user);
             logger.info("User created successfully: " + user.getUsername());
             return createUserResponse("User Created Successfully",List.of(user), "SUCCESS");
@@ -61,6 +87,7 @@ public class UserManagementServiceImpl implements UserManagementService, UserDet
         try {
             logger.info("Updating role for user: " + userToUpdate + " to role: " + role);
             int updated = userRepository.updateUserRole(userToUpdate, role);
+            principalsByUserName.invalidate(userToUpdate);
             if (updated == 1) {
                 return UserLifeCycleManagementResponse.builder().message("User Role Updated Successfully").status("SUCCESS").build();
             }
@@ -95,12 +122,13 @@ public class UserManagementServiceImpl implements UserManagementService, UserDet
             throw new PaymentManagementException(404, "User not found with username: " + userName, "FAILURE");
         }
         User user = userOpt.get();
-        if (!checkPassword(oldPassword, user.getPassword())) {
+        if (!passwordEncoder.matches(oldPassword, user.getPassword())) {
             logger.warning("Incorrect old password for user: " + userName);
             throw new PaymentManagementException(400, "Password is incorrect", "FAILURE");
         }
-        String hashedNewPassword = hashPassword(newPassword);
+        String hashedNewPassword = passwordEncoder.encode(newPassword);
         int updated = userRepository.updateUserPassword(userName, hashedNewPassword);
+        principalsByUserName.invalidate(userName);
         if (updated == 1) {
             return createUserResponse("Password updated successfully",List.of(user), "SUCCESS");
         } else {
@@ -111,8 +139,25 @@ public class UserManagementServiceImpl implements UserManagementService, UserDet
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.getUserByUserName(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+        User principal = principalsByUserName.get(username, key -> userRepository.getUserByUserName(key).map(this::toPrincipal).orElse(null));
+        if (principal == null) {
+            throw new UsernameNotFoundException("User not found: " + username);
+        }
+        return principal;
+    }
+
+    /**
+     * Copies the columns authentication needs into a detached User, leaving out the lazy payments collection so
+     * cached principals do not hold on to the persistence context that loaded them.
+     */
+    private User toPrincipal(User user) {
+        User principal = new User();
+        principal.setId(user.getId());
+        principal.setUserName(user.getUsername());
+        principal.setPassword(user.getPassword());
+        principal.setEmail(user.getEmail());
+        principal.setRole(user.getRole());
+        return principal;
     }
 
     private UserLifeCycleManagementResponse createUserResponse(String message,List<User> users, String status) {
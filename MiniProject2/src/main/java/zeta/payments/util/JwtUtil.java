@@ -1,29 +1,51 @@
 package zeta.payments.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.jsonwebtoken.*;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final Long expiration;
+    private final Key signingKey;
+    private final JwtParser jwtParser;
+    private final Cache<String, Claims> verifiedTokens;
 
-    @Value("${jwt.expiration}")
-    private Long expiration;
-
-    private Key getSigningKey() {
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.expiration}") Long expiration,
+                   @Value("${jwt.cache.maximum-size:10000}") long cacheMaximumSize) {
         byte[] keyBytes = secret.getBytes();
         if (keyBytes.length < 64) {
             throw new IllegalStateException("JWT secret key must be at least 64 bytes for HS512 algorithm");
         }
-        return Keys.hmacShaKeyFor(keyBytes);
+        this.expiration = expiration;
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, verifiedTokens, "auth.jwt.cache");
     }
 
     public String generateToken(String username, String role) {
@@ -32,10 +54,33 @@ public class JwtUtil {
                 .claim("role", role)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    /**
+     * Verifies the token and returns its claims, parsing it at most once while it stays cached. Entries are
+     * keyed by the SHA-256 of the token and evicted no later than the token's own expiry, so an expired or
+     * tampered token is always rejected by the parser.
+     */
+    public Claims verifyToken(String token) {
+        String tokenHash = hash(token);
+        Claims claims = verifiedTokens.getIfPresent(tokenHash);
+        if (claims == null) {
+            claims = jwtParser.parseClaimsJws(token).getBody();
+            verifiedTokens.put(tokenHash, claims);
+        }
+        return claims;
+    }
+
+    public CacheStats getCacheStats() {
+        return verifiedTokens.stats();
+    }
+
+    public long getCacheSize() {
+        return verifiedTokens.estimatedSize();
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -50,11 +95,7 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return verifyToken(token);
     }
 
     public Boolean isTokenExpired(String token) {
@@ -66,7 +107,38 @@ public class JwtUtil {
     }
 
     public Boolean validateToken(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername.equals(username) && !isTokenExpired(token));
+        final Claims claims = verifyToken(token);
+        return (claims.getSubject().equals(username) && !claims.getExpiration().before(new Date()));
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static class TokenExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiresAt = claims.getExpiration();
+            if (expiresAt == null) {
+                return 0;
+            }
+            long remainingMillis = expiresAt.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,43 @@
+package zeta.payments.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class NdjsonExportUtil {
+
+    public static final int FLUSH_INTERVAL = 500;
+
+    /**
+     * Writes every element of {@code rows} as one JSON document per line. Only the current row is held
+     * in memory; {@code afterWrite} lets the caller release it (e.g. detach it from the persistence
+     * context) once it has been serialized. The output stream is flushed but left open.
+     */
+    public static <T> long writeNdjson(Stream<T> rows, OutputStream outputStream, ObjectMapper objectMapper,
+                                       Consumer<T> afterWrite) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                T row = iterator.next();
+                objectMapper.writeValue(generator, row);
+                generator.writeRaw('\n');
+                afterWrite.accept(row);
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+        return count;
+    }
+}
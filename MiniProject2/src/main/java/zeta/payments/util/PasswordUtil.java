@@ -1,14 +1,32 @@
 package zeta.payments.util;
 
-import org.mindrot.jbcrypt.BCrypt;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.bcrypt.BCrypt;
 
 public class PasswordUtil {
 
+    public static final String BCRYPT_TIMER = "auth.bcrypt";
+
+    // log2 of the key-expansion rounds; stored hashes keep the cost they were created with.
+    public static final int BCRYPT_COST = 10;
+
+    private static final Timer HASH_TIMER = bcryptTimer("hash");
+    private static final Timer VERIFY_TIMER = bcryptTimer("verify");
+
     public static String hashPassword(String plainPassword) {
-        return BCrypt.hashpw(plainPassword, BCrypt.gensalt());
+        return HASH_TIMER.record(() -> BCrypt.hashpw(plainPassword, BCrypt.gensalt(BCRYPT_COST)));
     }
 
     public static boolean checkPassword(String plainPassword, String hashedPassword) {
-        return BCrypt.checkpw(plainPassword, hashedPassword);
+        return VERIFY_TIMER.record(() -> BCrypt.checkpw(plainPassword, hashedPassword));
+    }
+
+    public static Timer bcryptTimer(String operation) {
+        return Timer.builder(BCRYPT_TIMER)
+                .description("Time spent hashing or verifying passwords with BCrypt")
+                .tag("operation", operation)
+                .tag("cost", String.valueOf(BCRYPT_COST))
+                .register(Metrics.globalRegistry);
     }
 }
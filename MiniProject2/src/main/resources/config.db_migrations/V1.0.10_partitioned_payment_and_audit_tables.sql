@@ -0,0 +1,124 @@
+-- Converts payment_details and audit_trail into tables range-partitioned by month on created_at (epoch millis,
+-- UTC month boundaries). Queries that filter on created_at, such as report ranges, then only scan the
+-- partitions inside their window. Requires PostgreSQL 13+ (BEFORE row triggers on partitioned tables). The
+-- copy rewrites both tables under an exclusive lock, so run it in a maintenance window.
+--
+-- A primary key on a partitioned table must contain the partition key, so both keys gain created_at.
+-- payment_id stays unique because it comes from payment_details_id_seq.
+
+CREATE SCHEMA IF NOT EXISTS payment_archive;
+
+CREATE OR REPLACE FUNCTION payment_system.month_start_epoch_millis(p_month date)
+RETURNS bigint AS $$
+    SELECT (EXTRACT(epoch FROM date_trunc('month', p_month::timestamp) AT TIME ZONE 'UTC') * 1000)::bigint;
+$$ LANGUAGE sql IMMUTABLE;
+
+-- Creates the missing <parent>_pYYYYMM partitions from p_from up to p_months_ahead months after the current
+-- month and returns how many were created. A month whose rows already sit in the default partition is skipped
+-- with a warning; those rows have to be moved out by hand before that partition can be created.
+CREATE OR REPLACE FUNCTION payment_system.create_monthly_partitions(p_parent text, p_from date, p_months_ahead integer)
+RETURNS integer AS $$
+DECLARE
+    month_start date := date_trunc('month', p_from)::date;
+    last_month date := (date_trunc('month', now() AT TIME ZONE 'UTC') + make_interval(months => p_months_ahead))::date;
+    partition_name text;
+    created integer := 0;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        partition_name := p_parent || '_p' || to_char(month_start, 'YYYYMM');
+        IF to_regclass(format('payment_system.%I', partition_name)) IS NULL THEN
+            BEGIN
+                EXECUTE format('CREATE TABLE payment_system.%I PARTITION OF payment_system.%I FOR VALUES FROM (%s) TO (%s)',
+                    partition_name, p_parent,
+                    payment_system.month_start_epoch_millis(month_start),
+                    payment_system.month_start_epoch_millis((month_start + interval '1 month')::date));
+                created := created + 1;
+            EXCEPTION WHEN check_violation THEN
+                RAISE WARNING 'Cannot create partition %: the default partition holds rows for that month', partition_name;
+            END;
+        END IF;
+        month_start := (month_start + interval '1 month')::date;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detaches the <parent>_pYYYYMM partitions for months before the retention window and moves them to the
+-- payment_archive schema, where they stay queryable until dropped or dumped. Returns how many were archived.
+CREATE OR REPLACE FUNCTION payment_system.archive_monthly_partitions(p_parent text, p_retention_months integer)
+RETURNS integer AS $$
+DECLARE
+    cutoff_month date := (date_trunc('month', now() AT TIME ZONE 'UTC') - make_interval(months => p_retention_months))::date;
+    partition_name text;
+    archived integer := 0;
+BEGIN
+    FOR partition_name IN
+        SELECT child.relname
+        FROM pg_inherits
+        JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+        JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+        JOIN pg_namespace ns ON ns.oid = parent.relnamespace
+        WHERE ns.nspname = 'payment_system'
+          AND parent.relname = p_parent
+          AND child.relname ~ ('^' || p_parent || '_p[0-9]{6}$')
+        ORDER BY child.relname
+    LOOP
+        IF to_date(right(partition_name, 6), 'YYYYMM') < cutoff_month THEN
+            EXECUTE format('ALTER TABLE payment_system.%I DETACH PARTITION payment_system.%I', p_parent, partition_name);
+            EXECUTE format('ALTER TABLE payment_system.%I SET SCHEMA payment_archive', partition_name);
+            archived := archived + 1;
+        END IF;
+    END LOOP;
+    RETURN archived;
+END;
+$$ LANGUAGE plpgsql;
+
+-- payment_details. Triggers are attached only after the copy, so existing rows are not audited or rolled up twice.
+ALTER TABLE payment_system.payment_details RENAME TO payment_details_unpartitioned;
+ALTER TABLE payment_system.payment_details_unpartitioned RENAME CONSTRAINT payment_pkey TO payment_unpartitioned_pkey;
+
+CREATE TABLE payment_system.payment_details (
+    LIKE payment_system.payment_details_unpartitioned INCLUDING DEFAULTS
+) PARTITION BY RANGE (created_at);
+ALTER TABLE payment_system.payment_details ADD CONSTRAINT payment_pkey PRIMARY KEY (payment_id, created_at);
+CREATE TABLE payment_system.payment_details_default PARTITION OF payment_system.payment_details DEFAULT;
+
+SELECT payment_system.create_monthly_partitions('payment_details',
+    coalesce((SELECT to_timestamp(MIN(created_at) / 1000.0) AT TIME ZONE 'UTC' FROM payment_system.payment_details_unpartitioned)::date,
+             current_date), 3);
+
+INSERT INTO payment_system.payment_details SELECT * FROM payment_system.payment_details_unpartitioned;
+DROP TABLE payment_system.payment_details_unpartitioned;
+
+CREATE TRIGGER updateModified_At
+    BEFORE INSERT OR UPDATE ON "payment_system".payment_details
+    FOR EACH ROW EXECUTE PROCEDURE new_update_modified_at();
+
+CREATE TRIGGER logPaymentAudit_trigger
+    BEFORE INSERT OR UPDATE OR DELETE ON "payment_system".payment_details
+    FOR EACH ROW EXECUTE FUNCTION payment_system.log_audit_trail();
+
+CREATE TRIGGER maintainPaymentDailyRollup_trigger
+    AFTER INSERT OR DELETE OR UPDATE OF amount, amount_minor, currency, payment_type, created_at ON "payment_system".payment_details
+    FOR EACH ROW EXECUTE FUNCTION payment_system.maintain_payment_daily_rollup();
+
+-- audit_trail
+ALTER TABLE payment_system.audit_trail RENAME TO audit_trail_unpartitioned;
+ALTER TABLE payment_system.audit_trail_unpartitioned RENAME CONSTRAINT audit_trail_pkey TO audit_trail_unpartitioned_pkey;
+
+CREATE TABLE payment_system.audit_trail (
+    LIKE payment_system.audit_trail_unpartitioned INCLUDING DEFAULTS
+) PARTITION BY RANGE (created_at);
+ALTER TABLE payment_system.audit_trail ADD CONSTRAINT audit_trail_pkey PRIMARY KEY (payment_id, revision_count, created_at);
+CREATE TABLE payment_system.audit_trail_default PARTITION OF payment_system.audit_trail DEFAULT;
+
+SELECT payment_system.create_monthly_partitions('audit_trail',
+    coalesce((SELECT to_timestamp(MIN(created_at) / 1000.0) AT TIME ZONE 'UTC' FROM payment_system.audit_trail_unpartitioned)::date,
+             current_date), 3);
+
+INSERT INTO payment_system.audit_trail SELECT * FROM payment_system.audit_trail_unpartitioned;
+DROP TABLE payment_system.audit_trail_unpartitioned;
+
+CREATE TRIGGER updateModified_At
+    BEFORE INSERT OR UPDATE ON "payment_system".audit_trail
+    FOR EACH ROW EXECUTE PROCEDURE new_update_modified_at();
@@ -0,0 +1,9 @@
+-- Schema objects that ddl-auto=update used to add on startup. Hibernate now only validates the schema, so
+-- they have to exist before the application starts.
+ALTER TABLE payment_system.payment_details ADD COLUMN IF NOT EXISTS user_id bigint;
+
+-- Pooled id allocation for user_details, matching allocationSize on User.
+CREATE SEQUENCE IF NOT EXISTS payment_system.user_details_id_seq INCREMENT BY 50 MINVALUE 1;
+
+SELECT setval('payment_system.user_details_id_seq', COALESCE(MAX(user_id), 0) + 50, false)
+FROM payment_system.user_details;
@@ -0,0 +1,28 @@
+-- Rollup days were derived in the session time zone, so a row written from one zone and updated or deleted
+-- from another moved its delta to a different rollup_day. Days are now always UTC, matching the monthly
+-- partition bounds, and the table is rebuilt from payment_details under a lock that keeps writers out.
+CREATE OR REPLACE FUNCTION payment_system.apply_payment_daily_rollup(
+    p_created_at bigint, p_payment_type varchar, p_currency varchar, p_amount_minor bigint, p_sign integer)
+RETURNS void AS $$
+BEGIN
+    INSERT INTO payment_system.payment_daily_rollup AS r (
+        rollup_day, payment_type, currency, total_amount_minor, payment_count
+    ) VALUES (
+        (to_timestamp(p_created_at / 1000.0) AT TIME ZONE 'UTC')::date, p_payment_type, p_currency,
+        p_sign * p_amount_minor, p_sign
+    )
+    ON CONFLICT (rollup_day, payment_type, currency) DO UPDATE
+        SET total_amount_minor = r.total_amount_minor + EXCLUDED.total_amount_minor,
+            payment_count = r.payment_count + EXCLUDED.payment_count;
+END;
+$$ LANGUAGE plpgsql;
+
+LOCK TABLE payment_system.payment_details IN SHARE MODE;
+
+TRUNCATE payment_system.payment_daily_rollup;
+
+INSERT INTO payment_system.payment_daily_rollup (rollup_day, payment_type, currency, total_amount_minor, payment_count)
+SELECT (to_timestamp(created_at / 1000.0) AT TIME ZONE 'UTC')::date, payment_type, currency,
+       SUM(coalesce(amount_minor, round(amount::numeric * 100)::bigint)), COUNT(*)
+FROM payment_system.payment_details
+GROUP BY 1, 2, 3;
@@ -0,0 +1,143 @@
+-- payment_details and audit_trail are partitioned on created_at, so their primary keys include it and no
+-- longer make payment_id, or (payment_id, revision_count), unique on their own. payment_id_registry is an
+-- unpartitioned table keyed by payment_id that every payment insert goes through, so a second row with the same
+-- id fails with a unique violation whatever its created_at. The AFTER triggers also follow a row that an UPDATE
+-- of created_at moves to another partition, which runs as a DELETE followed by an INSERT.
+--
+-- audit_trail keeps no such guard: its revision numbers come from the payment row, which the UPDATE branch of
+-- log_audit_trail() locks, and that lookup now includes created_at so it only touches the row's partition.
+CREATE TABLE IF NOT EXISTS payment_system.payment_id_registry (
+    payment_id bigint NOT NULL,
+    CONSTRAINT payment_id_registry_pkey PRIMARY KEY (payment_id)
+);
+
+INSERT INTO payment_system.payment_id_registry (payment_id)
+SELECT payment_id FROM payment_system.payment_details
+ON CONFLICT (payment_id) DO NOTHING;
+
+CREATE OR REPLACE FUNCTION payment_system.maintain_payment_id_registry()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO payment_system.payment_id_registry (payment_id) VALUES (NEW.payment_id);
+    ELSIF TG_OP = 'DELETE' THEN
+        DELETE FROM payment_system.payment_id_registry WHERE payment_id = OLD.payment_id;
+    ELSIF NEW.payment_id <> OLD.payment_id THEN
+        UPDATE payment_system.payment_id_registry SET payment_id = NEW.payment_id WHERE payment_id = OLD.payment_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER maintainPaymentIdRegistry_trigger
+    AFTER INSERT OR DELETE OR UPDATE OF payment_id ON "payment_system".payment_details
+    FOR EACH ROW EXECUTE FUNCTION payment_system.maintain_payment_id_registry();
+
+CREATE OR REPLACE FUNCTION payment_system.log_audit_trail()
+RETURNS TRIGGER AS $$
+DECLARE
+    new_revision BIGINT;
+BEGIN
+    IF payment_system.is_audit_outbox() THEN
+        IF TG_OP = 'INSERT' THEN
+            NEW.revision_count := 1;
+            INSERT INTO payment_system.audit_outbox (
+                payment_id, revision_count, revision_type,
+                amount, amount_minor, currency, payment_type, category, created_by, account_name,
+                status, created_at, updated_at
+            ) VALUES (
+                NEW.payment_id, 1, 'CREATE',
+                NEW.amount, NEW.amount_minor, NEW.currency, NEW.payment_type, NEW.category, NEW.created_by,
+                NEW.account_name, NEW.status, NEW.created_at, NEW.updated_at
+            );
+            RETURN NEW;
+
+        ELSIF TG_OP = 'UPDATE' THEN
+            IF payment_system.is_amount_backfill() THEN
+                RETURN NEW;
+            END IF;
+            NEW.revision_count := OLD.revision_count + 1;
+            INSERT INTO payment_system.audit_outbox (
+                payment_id, revision_count, revision_type,
+                amount, amount_minor, currency, payment_type, category, created_by, account_name,
+                status, created_at, updated_at
+            ) VALUES (
+                NEW.payment_id, NEW.revision_count, 'UPDATE',
+                NEW.amount, NEW.amount_minor, NEW.currency, NEW.payment_type, NEW.category, NEW.created_by,
+                NEW.account_name, NEW.status, (EXTRACT(epoch FROM now()) * 1000::numeric), NEW.updated_at
+            );
+            RETURN NEW;
+
+        ELSIF TG_OP = 'DELETE' THEN
+            INSERT INTO payment_system.audit_outbox (
+                payment_id, revision_count, revision_type,
+                amount, amount_minor, currency, payment_type, category, created_by, account_name,
+                status, created_at, updated_at
+            ) VALUES (
+                OLD.payment_id, OLD.revision_count + 1, 'DELETE',
+                OLD.amount, OLD.amount_minor, OLD.currency, OLD.payment_type, OLD.category, OLD.created_by,
+                OLD.account_name, OLD.status, (EXTRACT(epoch FROM now()) * 1000::numeric), OLD.updated_at
+            );
+            RETURN OLD;
+        END IF;
+
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'INSERT' THEN
+        NEW.revision_count := 1;
+
+        INSERT INTO payment_system.audit_trail (
+            payment_id, revision_count, revision_type,
+            amount, amount_minor, currency, payment_type, category, created_by, account_name,
+            status, created_at, updated_at
+        ) VALUES (
+            NEW.payment_id, NEW.revision_count, 'CREATE',
+            NEW.amount, NEW.amount_minor, NEW.currency, NEW.payment_type, NEW.category, NEW.created_by,
+            NEW.account_name, NEW.status, NEW.created_at, NEW.updated_at
+        );
+
+        RETURN NEW;
+
+    ELSIF TG_OP = 'UPDATE' THEN
+        IF payment_system.is_amount_backfill() THEN
+            RETURN NEW;
+        END IF;
+
+        SELECT revision_count + 1 INTO new_revision
+        FROM payment_system.payment_details
+        WHERE payment_id = OLD.payment_id
+          AND created_at = OLD.created_at
+        FOR UPDATE;
+
+        NEW.revision_count := new_revision;
+
+        INSERT INTO payment_system.audit_trail (
+            payment_id, revision_count, revision_type,
+            amount, amount_minor, currency, payment_type, category, created_by, account_name,
+            status, created_at, updated_at
+        ) VALUES (
+            NEW.payment_id, new_revision, 'UPDATE',
+            NEW.amount, NEW.amount_minor, NEW.currency, NEW.payment_type, NEW.category, NEW.created_by,
+            NEW.account_name, NEW.status, (EXTRACT(epoch FROM now()) * 1000::numeric), NEW.updated_at
+        );
+
+        RETURN NEW;
+
+    ELSIF TG_OP = 'DELETE' THEN
+        INSERT INTO payment_system.audit_trail (
+            payment_id, revision_count, revision_type,
+            amount, amount_minor, currency, payment_type, category, created_by, account_name,
+            status, created_at, updated_at
+        ) VALUES (
+            OLD.payment_id, OLD.revision_count + 1, 'DELETE',
+            OLD.amount, OLD.amount_minor, OLD.currency, OLD.payment_type, OLD.category, OLD.created_by,
+            OLD.account_name, OLD.status, (EXTRACT(epoch FROM now()) * 1000::numeric), OLD.updated_at
+        );
+
+        RETURN OLD;
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
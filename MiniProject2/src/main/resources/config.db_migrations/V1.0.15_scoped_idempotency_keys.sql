@@ -0,0 +1,9 @@
+-- Idempotency keys are scoped to the user who sent them, so one user's key can neither block nor replay
+-- another user's request. Rows without a creator keep an empty one.
+UPDATE payment_system.payment_idempotency SET created_by = '' WHERE created_by IS NULL;
+ALTER TABLE payment_system.payment_idempotency ALTER COLUMN created_by SET DEFAULT '';
+ALTER TABLE payment_system.payment_idempotency ALTER COLUMN created_by SET NOT NULL;
+
+ALTER TABLE payment_system.payment_idempotency DROP CONSTRAINT payment_idempotency_pkey;
+ALTER TABLE payment_system.payment_idempotency
+    ADD CONSTRAINT payment_idempotency_pkey PRIMARY KEY (created_by, idempotency_key);
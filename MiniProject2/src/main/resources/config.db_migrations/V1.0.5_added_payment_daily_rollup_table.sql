@@ -0,0 +1,54 @@
+CREATE TABLE IF NOT EXISTS payment_system.payment_daily_rollup (
+    rollup_day date NOT NULL,
+    payment_type varchar(20) NOT NULL,
+    currency varchar(3) NOT NULL,
+    total_amount numeric(20, 2) NOT NULL DEFAULT 0,
+    payment_count bigint NOT NULL DEFAULT 0,
+    CONSTRAINT payment_daily_rollup_pkey PRIMARY KEY (rollup_day, payment_type, currency)
+);
+
+-- Days are derived in the session time zone, which the JDBC driver sets to the application's default zone,
+-- so rollup days line up with the period boundaries the report service computes.
+CREATE OR REPLACE FUNCTION payment_system.apply_payment_daily_rollup(
+    p_created_at bigint, p_payment_type varchar, p_currency varchar, p_amount varchar, p_sign integer)
+RETURNS void AS $$
+BEGIN
+    INSERT INTO payment_system.payment_daily_rollup AS r (
+        rollup_day, payment_type, currency, total_amount, payment_count
+    ) VALUES (
+        to_timestamp(p_created_at / 1000.0)::date, p_payment_type, p_currency,
+        p_sign * p_amount::numeric, p_sign
+    )
+    ON CONFLICT (rollup_day, payment_type, currency) DO UPDATE
+        SET total_amount = r.total_amount + EXCLUDED.total_amount,
+            payment_count = r.payment_count + EXCLUDED.payment_count;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION payment_system.maintain_payment_daily_rollup()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM payment_system.apply_payment_daily_rollup(
+            OLD.created_at, OLD.payment_type, OLD.currency, OLD.amount, -1);
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM payment_system.apply_payment_daily_rollup(
+            NEW.created_at, NEW.payment_type, NEW.currency, NEW.amount, 1);
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- AFTER trigger so it sees the final row once the audit and modified_at BEFORE triggers have run.
+CREATE TRIGGER maintainPaymentDailyRollup_trigger
+    AFTER INSERT OR DELETE OR UPDATE OF amount, currency, payment_type, created_at ON "payment_system".payment_details
+    FOR EACH ROW EXECUTE FUNCTION payment_system.maintain_payment_daily_rollup();
+
+INSERT INTO payment_system.payment_daily_rollup (rollup_day, payment_type, currency, total_amount, payment_count)
+SELECT to_timestamp(created_at / 1000.0)::date, payment_type, currency, SUM(amount::numeric), COUNT(*)
+FROM payment_system.payment_details
+GROUP BY 1, 2, 3
+ON CONFLICT (rollup_day, payment_type, currency) DO NOTHING;
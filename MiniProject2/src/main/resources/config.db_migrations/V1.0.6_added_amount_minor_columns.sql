@@ -0,0 +1,139 @@
+-- Amounts move from varchar to bigint minor units (two decimal places). The varchar column stays nullable
+-- for rows written before this migration until AmountBackfillService has converted them.
+ALTER TABLE payment_system.payment_details ADD COLUMN IF NOT EXISTS amount_minor bigint;
+ALTER TABLE payment_system.payment_details ALTER COLUMN amount DROP NOT NULL;
+
+ALTER TABLE payment_system.audit_trail ADD COLUMN IF NOT EXISTS amount_minor bigint;
+ALTER TABLE payment_system.audit_trail ALTER COLUMN amount DROP NOT NULL;
+
+ALTER TABLE payment_system.payment_daily_rollup RENAME COLUMN total_amount TO total_amount_minor;
+ALTER TABLE payment_system.payment_daily_rollup
+    ALTER COLUMN total_amount_minor TYPE bigint USING round(total_amount_minor * 100)::bigint;
+
+-- Set with set_config(..., true) by the backfill so its chunked updates are not recorded as payment revisions.
+CREATE OR REPLACE FUNCTION payment_system.is_amount_backfill()
+RETURNS boolean AS $$
+    SELECT coalesce(current_setting('payment_system.amount_backfill', true), '') = 'on';
+$$ LANGUAGE sql STABLE;
+
+CREATE OR REPLACE FUNCTION payment_system.log_audit_trail()
+RETURNS TRIGGER AS $$
+DECLARE
+    new_revision BIGINT;
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        NEW.revision_count := 1;
+
+        INSERT INTO payment_system.audit_trail (
+            payment_id, revision_count, revision_type,
+            amount, amount_minor, currency, payment_type, category, created_by, account_name,
+            status, created_at, updated_at
+        ) VALUES (
+            NEW.payment_id, NEW.revision_count, 'CREATE',
+            NEW.amount, NEW.amount_minor, NEW.currency, NEW.payment_type, NEW.category, NEW.created_by,
+            NEW.account_name, NEW.status, NEW.created_at, NEW.updated_at
+        );
+
+        RETURN NEW;
+
+    ELSIF TG_OP = 'UPDATE' THEN
+        IF payment_system.is_amount_backfill() THEN
+            RETURN NEW;
+        END IF;
+
+        SELECT revision_count + 1 INTO new_revision
+        FROM payment_system.payment_details
+        WHERE payment_id = OLD.payment_ID
+        FOR UPDATE;
+
+        NEW.revision_count := new_revision;
+
+        INSERT INTO payment_system.audit_trail (
+            payment_id, revision_count, revision_type,
+            amount, amount_minor, currency, payment_type, category, created_by, account_name,
+            status, created_at, updated_at
+        ) VALUES (
+            NEW.payment_id, new_revision, 'UPDATE',
+            NEW.amount, NEW.amount_minor, NEW.currency, NEW.payment_type, NEW.category, NEW.created_by,
+            NEW.account_name, NEW.status, (EXTRACT(epoch FROM now()) * 1000::numeric), NEW.updated_at
+        );
+
+        RETURN NEW;
+
+    ELSIF TG_OP = 'DELETE' THEN
+        INSERT INTO payment_system.audit_trail (
+            payment_id, revision_count, revision_type,
+            amount, amount_minor, currency, payment_type, category, created_by, account_name,
+            status, created_at, updated_at
+        ) VALUES (
+            OLD.payment_id, OLD.revision_count, 'DELETE',
+            OLD.amount, OLD.amount_minor, OLD.currency, OLD.payment_type, OLD.category, OLD.created_by,
+            OLD.account_name, OLD.status, (EXTRACT(epoch FROM now()) * 1000::numeric), OLD.updated_at
+        );
+
+        RETURN OLD;
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION new_update_modified_at()
+    RETURNS trigger AS $new_update_modified_at$
+BEGIN
+    IF TG_OP = 'UPDATE' AND payment_system.is_amount_backfill() THEN
+        RETURN NEW;
+    END IF;
+    NEW.updated_at := (EXTRACT(epoch FROM now()) * 1000::numeric);
+    RETURN NEW;
+END;
+$new_update_modified_at$ LANGUAGE plpgsql;
+
+DROP FUNCTION IF EXISTS payment_system.apply_payment_daily_rollup(bigint, varchar, varchar, varchar, integer);
+
+CREATE OR REPLACE FUNCTION payment_system.apply_payment_daily_rollup(
+    p_created_at bigint, p_payment_type varchar, p_currency varchar, p_amount_minor bigint, p_sign integer)
+RETURNS void AS $$
+BEGIN
+    INSERT INTO payment_system.payment_daily_rollup AS r (
+        rollup_day, payment_type, currency, total_amount_minor, payment_count
+    ) VALUES (
+        to_timestamp(p_created_at / 1000.0)::date, p_payment_type, p_currency,
+        p_sign * p_amount_minor, p_sign
+    )
+    ON CONFLICT (rollup_day, payment_type, currency) DO UPDATE
+        SET total_amount_minor = r.total_amount_minor + EXCLUDED.total_amount_minor,
+            payment_count = r.payment_count + EXCLUDED.payment_count;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Rows that have not been backfilled yet still carry their varchar amount, so both paths resolve to the
+-- same minor-unit value and the backfill itself nets out to zero.
+CREATE OR REPLACE FUNCTION payment_system.maintain_payment_daily_rollup()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' AND payment_system.is_amount_backfill() THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM payment_system.apply_payment_daily_rollup(
+            OLD.created_at, OLD.payment_type, OLD.currency,
+            coalesce(OLD.amount_minor, round(OLD.amount::numeric * 100)::bigint), -1);
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM payment_system.apply_payment_daily_rollup(
+            NEW.created_at, NEW.payment_type, NEW.currency,
+            coalesce(NEW.amount_minor, round(NEW.amount::numeric * 100)::bigint), 1);
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS maintainPaymentDailyRollup_trigger ON "payment_system".payment_details;
+
+CREATE TRIGGER maintainPaymentDailyRollup_trigger
+    AFTER INSERT OR DELETE OR UPDATE OF amount, amount_minor, currency, payment_type, created_at ON "payment_system".payment_details
+    FOR EACH ROW EXECUTE FUNCTION payment_system.maintain_payment_daily_rollup();
@@ -0,0 +1,7 @@
+-- Pooled id allocation for payment_details: Hibernate reserves 50 ids per nextval and fills them in memory,
+-- so batch inserts need one sequence round trip per 50 rows. INCREMENT BY must match allocationSize on Payment.
+CREATE SEQUENCE IF NOT EXISTS payment_system.payment_details_id_seq INCREMENT BY 50 MINVALUE 1;
+
+-- The pooled optimizer treats each value as the top of its block, so start one block above the current maximum.
+SELECT setval('payment_system.payment_details_id_seq', COALESCE(MAX(payment_id), 0) + 50, false)
+FROM payment_system.payment_details;
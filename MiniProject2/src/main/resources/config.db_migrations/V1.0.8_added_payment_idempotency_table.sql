@@ -0,0 +1,15 @@
+-- Responses of POST /payments requests sent with an Idempotency-Key header. The key is claimed in the same
+-- transaction that inserts the payment, so a concurrent retry blocks on the claim and then replays the
+-- stored response instead of inserting a second payment.
+CREATE TABLE IF NOT EXISTS payment_system.payment_idempotency (
+    idempotency_key varchar(100) NOT NULL,
+    request_hash varchar(64) NOT NULL,
+    payment_id bigint,
+    response_body text,
+    created_by varchar(30),
+    created_at bigint NOT NULL DEFAULT (EXTRACT(epoch FROM now()) * 1000::numeric),
+    CONSTRAINT payment_idempotency_pkey PRIMARY KEY (idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS payment_idempotency_created_at_idx
+    ON payment_system.payment_idempotency (created_at);
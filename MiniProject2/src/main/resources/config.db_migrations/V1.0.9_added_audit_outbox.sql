@@ -0,0 +1,138 @@
+-- Outbox audit mode. When a session sets payment_system.audit_mode to 'outbox' (the application does so through
+-- Hikari's connection-init-sql when payments.audit.mode=outbox), log_audit_trail() appends each revision to
+-- audit_outbox instead of audit_trail, and AuditOutboxService drains the outbox into audit_trail in batches.
+-- Sessions that do not set the mode, such as psql or the CLI, keep writing audit_trail synchronously.
+CREATE TABLE IF NOT EXISTS payment_system.audit_outbox (
+    outbox_id bigserial NOT NULL,
+    payment_id bigint NOT NULL,
+    revision_count bigint NOT NULL,
+    revision_type varchar(20) NOT NULL,
+    amount varchar(100),
+    amount_minor bigint,
+    currency varchar(3) NOT NULL,
+    payment_type varchar(20) NOT NULL,
+    category varchar(20) NOT NULL,
+    created_by varchar(30) NOT NULL,
+    account_name varchar(30) NOT NULL,
+    status varchar(20) NOT NULL,
+    created_at bigint NOT NULL,
+    updated_at bigint NOT NULL,
+    CONSTRAINT audit_outbox_pkey PRIMARY KEY (outbox_id)
+);
+
+CREATE OR REPLACE FUNCTION payment_system.is_audit_outbox()
+RETURNS boolean AS $$
+    SELECT coalesce(current_setting('payment_system.audit_mode', true), '') = 'outbox';
+$$ LANGUAGE sql STABLE;
+
+-- Revision numbers are assigned here in both modes, so audit_trail numbering is the same whichever mode wrote
+-- a revision. In outbox mode the UPDATE revision comes from OLD: the UPDATE already holds the row lock, so the
+-- extra SELECT ... FOR UPDATE is not needed. A DELETE now takes the next revision in both modes; reusing
+-- OLD.revision_count collided with the last revision on audit_trail's primary key.
+CREATE OR REPLACE FUNCTION payment_system.log_audit_trail()
+RETURNS TRIGGER AS $$
+DECLARE
+    new_revision BIGINT;
+BEGIN
+    IF payment_system.is_audit_outbox() THEN
+        IF TG_OP = 'INSERT' THEN
+            NEW.revision_count := 1;
+            INSERT INTO payment_system.audit_outbox (
+                payment_id, revision_count, revision_type,
+                amount, amount_minor, currency, payment_type, category, created_by, account_name,
+                status, created_at, updated_at
+            ) VALUES (
+                NEW.payment_id, 1, 'CREATE',
+                NEW.amount, NEW.amount_minor, NEW.currency, NEW.payment_type, NEW.category, NEW.created_by,
+                NEW.account_name, NEW.status, NEW.created_at, NEW.updated_at
+            );
+            RETURN NEW;
+
+        ELSIF TG_OP = 'UPDATE' THEN
+            IF payment_system.is_amount_backfill() THEN
+                RETURN NEW;
+            END IF;
+            NEW.revision_count := OLD.revision_count + 1;
+            INSERT INTO payment_system.audit_outbox (
+                payment_id, revision_count, revision_type,
+                amount, amount_minor, currency, payment_type, category, created_by, account_name,
+                status, created_at, updated_at
+            ) VALUES (
+                NEW.payment_id, NEW.revision_count, 'UPDATE',
+                NEW.amount, NEW.amount_minor, NEW.currency, NEW.payment_type, NEW.category, NEW.created_by,
+                NEW.account_name, NEW.status, (EXTRACT(epoch FROM now()) * 1000::numeric), NEW.updated_at
+            );
+            RETURN NEW;
+
+        ELSIF TG_OP = 'DELETE' THEN
+            INSERT INTO payment_system.audit_outbox (
+                payment_id, revision_count, revision_type,
+                amount, amount_minor, currency, payment_type, category, created_by, account_name,
+                status, created_at, updated_at
+            ) VALUES (
+                OLD.payment_id, OLD.revision_count + 1, 'DELETE',
+                OLD.amount, OLD.amount_minor, OLD.currency, OLD.payment_type, OLD.category, OLD.created_by,
+                OLD.account_name, OLD.status, (EXTRACT(epoch FROM now()) * 1000::numeric), OLD.updated_at
+            );
+            RETURN OLD;
+        END IF;
+
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'INSERT' THEN
+        NEW.revision_count := 1;
+
+        INSERT INTO payment_system.audit_trail (
+            payment_id, revision_count, revision_type,
+            amount, amount_minor, currency, payment_type, category, created_by, account_name,
+            status, created_at, updated_at
+        ) VALUES (
+            NEW.payment_id, NEW.revision_count, 'CREATE',
+            NEW.amount, NEW.amount_minor, NEW.currency, NEW.payment_type, NEW.category, NEW.created_by,
+            NEW.account_name, NEW.status, NEW.created_at, NEW.updated_at
+        );
+
+        RETURN NEW;
+
+    ELSIF TG_OP = 'UPDATE' THEN
+        IF payment_system.is_amount_backfill() THEN
+            RETURN NEW;
+        END IF;
+
+        SELECT revision_count + 1 INTO new_revision
+        FROM payment_system.payment_details
+        WHERE payment_id = OLD.payment_ID
+        FOR UPDATE;
+
+        NEW.revision_count := new_revision;
+
+        INSERT INTO payment_system.audit_trail (
+            payment_id, revision_count, revision_type,
+            amount, amount_minor, currency, payment_type, category, created_by, account_name,
+            status, created_at, updated_at
+        ) VALUES (
+            NEW.payment_id, new_revision, 'UPDATE',
+            NEW.amount, NEW.amount_minor, NEW.currency, NEW.payment_type, NEW.category, NEW.created_by,
+            NEW.account_name, NEW.status, (EXTRACT(epoch FROM now()) * 1000::numeric), NEW.updated_at
+        );
+
+        RETURN NEW;
+
+    ELSIF TG_OP = 'DELETE' THEN
+        INSERT INTO payment_system.audit_trail (
+            payment_id, revision_count, revision_type,
+            amount, amount_minor, currency, payment_type, category, created_by, account_name,
+            status, created_at, updated_at
+        ) VALUES (
+            OLD.payment_id, OLD.revision_count + 1, 'DELETE',
+            OLD.amount, OLD.amount_minor, OLD.currency, OLD.payment_type, OLD.category, OLD.created_by,
+            OLD.account_name, OLD.status, (EXTRACT(epoch FROM now()) * 1000::numeric), OLD.updated_at
+        );
+
+        RETURN OLD;
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,60 @@
+package zeta.payments.commons.money;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void parse_ValidAmounts_ReturnsMinorUnits() {
+        assertEquals(100000L, Money.parse("1000").getMinorUnits());
+        assertEquals(100050L, Money.parse("1000.5").getMinorUnits());
+        assertEquals(1L, Money.parse("0.01").getMinorUnits());
+        assertEquals(-2550L, Money.parse(" -25.50 ").getMinorUnits());
+    }
+
+    @Test
+    void parse_MoreThanTwoDecimals_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> Money.parse("10.005"));
+    }
+
+    @Test
+    void parse_InvalidAmount_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> Money.parse("abc"));
+        assertThrows(IllegalArgumentException.class, () -> Money.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> Money.parse(null));
+    }
+
+    @Test
+    void toString_FormatsWithTwoDecimals() {
+        assertEquals("1000.00", Money.ofMinor(100000L).toString());
+        assertEquals("0.05", Money.ofMinor(5L).toString());
+        assertEquals("-12.30", Money.ofMinor(-1230L).toString());
+    }
+
+    @Test
+    void equals_SameMinorUnits_AreEqual() {
+        assertEquals(Money.parse("20.0"), Money.ofMinor(2000L));
+        assertEquals(Money.parse("20.0").hashCode(), Money.ofMinor(2000L).hashCode());
+    }
+
+    @Test
+    void json_RoundTripsAsString() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        assertEquals("\"1000.50\"", objectMapper.writeValueAsString(Money.parse("1000.5")));
+        assertEquals(Money.ofMinor(100050L), objectMapper.readValue("\"1000.50\"", Money.class));
+    }
+
+    @Test
+    void converter_MapsToAndFromMinorUnits() {
+        MoneyConverter converter = new MoneyConverter();
+
+        assertEquals(2550L, converter.convertToDatabaseColumn(Money.parse("25.50")));
+        assertEquals(Money.ofMinor(2550L), converter.convertToEntityAttribute(2550L));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
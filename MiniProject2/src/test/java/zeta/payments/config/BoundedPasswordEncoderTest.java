@@ -0,0 +1,82 @@
+package zeta.payments.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import zeta.payments.exception.PaymentManagementException;
+import zeta.payments.util.PasswordUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.shutdown();
+    }
+
+    @Test
+    void encode_ProducesHashThatMatches() {
+        encoder = new BoundedPasswordEncoder(1, 1);
+
+        String hash = encoder.encode("password123");
+
+        assertTrue(hash.startsWith("$2a$10$"));
+        assertTrue(encoder.matches("password123", hash));
+        assertFalse(encoder.matches("password124", hash));
+    }
+
+    @Test
+    void matches_HashFromPasswordUtil_ReturnsTrue() {
+        encoder = new BoundedPasswordEncoder(1, 1);
+
+        assertTrue(encoder.matches("password123", PasswordUtil.hashPassword("password123")));
+    }
+
+    @Test
+    void matches_NotABcryptHash_ReturnsFalse() {
+        encoder = new BoundedPasswordEncoder(1, 1);
+
+        assertFalse(encoder.matches("password123", "invalidhashformat"));
+        assertFalse(encoder.matches("password123", ""));
+        assertFalse(encoder.matches("password123", null));
+    }
+
+    @Test
+    void matches_PoolAndQueueFull_Returns429() throws Exception {
+        encoder = new BoundedPasswordEncoder(1, 1);
+        String hash = PasswordUtil.hashPassword("password123");
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> encoder.matches("password123", hash)));
+            }
+
+            int verified = 0;
+            int rejected = 0;
+            for (Future<Boolean> result : results) {
+                try {
+                    assertTrue(result.get());
+                    verified++;
+                } catch (java.util.concurrent.ExecutionException e) {
+                    PaymentManagementException exception = assertInstanceOf(PaymentManagementException.class, e.getCause());
+                    assertEquals(429, exception.getHttpStatus());
+                    rejected++;
+                }
+            }
+
+            assertTrue(verified >= 1);
+            assertTrue(rejected >= 1);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package zeta.payments.config;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DbAdmissionFilterTest {
+
+    @Test
+    void doFilter_PermitAvailable_PassesRequestThrough() throws Exception {
+        DbAdmissionFilter filter = new DbAdmissionFilter(1, 100);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/payments"), response, chain);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_NoPermitWithinTimeout_Returns503() throws Exception {
+        DbAdmissionFilter filter = new DbAdmissionFilter(1, 50);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blockingChain = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> first = executor.submit(() -> {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/payments"), new MockHttpServletResponse(), blockingChain);
+                return null;
+            });
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/payments"), response, new MockFilterChain());
+
+            assertEquals(503, response.getStatus());
+            assertEquals("1", response.getHeader("Retry-After"));
+            assertTrue(response.getContentAsString().contains("Service Unavailable"));
+
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void doFilter_PermitReleasedAfterRequest_NextRequestAdmitted() throws Exception {
+        DbAdmissionFilter filter = new DbAdmissionFilter(1, 50);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/payments"), new MockHttpServletResponse(), new MockFilterChain());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/payments"), response, new MockFilterChain());
+
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void doFilter_AsyncExport_HoldsPermitUntilStreamCompletes() throws Exception {
+        DbAdmissionFilter filter = new DbAdmissionFilter(1, 50);
+        MockHttpServletRequest exportRequest = new MockHttpServletRequest("GET", "/api/v1/payments/export");
+        exportRequest.setAsyncSupported(true);
+        FilterChain streamingChain = (request, response) -> request.startAsync();
+
+        filter.doFilter(exportRequest, new MockHttpServletResponse(), streamingChain);
+
+        MockHttpServletResponse whileStreaming = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/payments"), whileStreaming, new MockFilterChain());
+        assertEquals(503, whileStreaming.getStatus());
+
+        ((MockAsyncContext) exportRequest.getAsyncContext()).complete();
+
+        MockHttpServletResponse afterStream = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/payments"), afterStream, new MockFilterChain());
+        assertEquals(200, afterStream.getStatus());
+    }
+
+    @Test
+    void doFilter_NonApiPath_NotLimited() throws Exception {
+        DbAdmissionFilter filter = new DbAdmissionFilter(0, 10);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, new MockFilterChain());
+
+        assertEquals(200, response.getStatus());
+    }
+}
@@ -9,21 +9,28 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import zeta.payments.commons.money.Money;
 import zeta.payments.commons.enums.PaymentCategory;
 import zeta.payments.commons.enums.PaymentStatus;
 import zeta.payments.commons.enums.PaymentType;
+import zeta.payments.dto.request.AuditHistoryRequest;
 import zeta.payments.dto.response.AuditLifeCycleManagementResponse;
 import zeta.payments.entity.Audit;
 import zeta.payments.exception.PaymentManagementException;
 import zeta.payments.service.impl.AuditTrialManagementServiceImpl;
 import zeta.payments.util.JwtUtil;
 
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -53,7 +60,7 @@ class AuditControllerTest {
         testAudit = new Audit();
         testAudit.setId(auditId);
         testAudit.setRevisionType("CREATE");
-        testAudit.setAmount("1000.0");
+        testAudit.setAmount(Money.parse("1000.0"));
         testAudit.setCurrency("INR");
         testAudit.setCategory(PaymentCategory.INVOICE);
         testAudit.setType(PaymentType.INCOMING);
@@ -88,7 +95,7 @@ class AuditControllerTest {
                 .andExpect(jsonPath("$.status").value("success"))
                 .andExpect(jsonPath("$.audits").isArray())
                 .andExpect(jsonPath("$.audits[0].revisionType").value("CREATE"))
-                .andExpect(jsonPath("$.audits[0].amount").value("1000.0"))
+                .andExpect(jsonPath("$.audits[0].amount").value("1000.00"))
                 .andExpect(jsonPath("$.audits[0].currency").value("INR"))
                 .andExpect(jsonPath("$.audits[0].category").value("INVOICE"))
                 .andExpect(jsonPath("$.audits[0].type").value("INCOMING"))
@@ -175,7 +182,7 @@ class AuditControllerTest {
     @Test
     @WithMockUser(roles = {"ADMIN"})
     void getAuditById_Success_WithAdminRole() throws Exception {
-        when(auditTrialManagementService.getPaymentAuditById(100L)).thenReturn(successResponse);
+        when(auditTrialManagementService.getPaymentAuditById(eq(100L), any(AuditHistoryRequest.class))).thenReturn(successResponse);
 
         mockMvc.perform(get("/api/v1/audits/100")
                         .with(csrf())
@@ -186,7 +193,7 @@ class AuditControllerTest {
                 .andExpect(jsonPath("$.status").value("success"))
                 .andExpect(jsonPath("$.audits").isArray())
                 .andExpect(jsonPath("$.audits[0].revisionType").value("CREATE"))
-                .andExpect(jsonPath("$.audits[0].amount").value("1000.0"))
+                .andExpect(jsonPath("$.audits[0].amount").value("1000.00"))
                 .andExpect(jsonPath("$.audits[0].currency").value("INR"))
                 .andExpect(jsonPath("$.audits[0].category").value("INVOICE"))
                 .andExpect(jsonPath("$.audits[0].type").value("INCOMING"))
@@ -194,13 +201,13 @@ class AuditControllerTest {
                 .andExpect(jsonPath("$.audits[0].accountName").value("Test Account"))
                 .andExpect(jsonPath("$.audits[0].createdBy").value("testuser"));
 
-        verify(auditTrialManagementService, times(1)).getPaymentAuditById(100L);
+        verify(auditTrialManagementService, times(1)).getPaymentAuditById(eq(100L), any(AuditHistoryRequest.class));
     }
 
     @Test
     @WithMockUser(roles = {"VIEWER"})
     void getAuditById_Success_WithViewerRole() throws Exception {
-        when(auditTrialManagementService.getPaymentAuditById(100L)).thenReturn(successResponse);
+        when(auditTrialManagementService.getPaymentAuditById(eq(100L), any(AuditHistoryRequest.class))).thenReturn(successResponse);
 
         mockMvc.perform(get("/api/v1/audits/100")
                         .with(csrf())
@@ -210,13 +217,13 @@ class AuditControllerTest {
                 .andExpect(jsonPath("$.message").value("Audit records fetched successfully"))
                 .andExpect(jsonPath("$.status").value("success"));
 
-        verify(auditTrialManagementService, times(1)).getPaymentAuditById(100L);
+        verify(auditTrialManagementService, times(1)).getPaymentAuditById(eq(100L), any(AuditHistoryRequest.class));
     }
 
     @Test
     @WithMockUser(roles = {"FINANCE_MANAGER"})
     void getAuditById_Success_WithFinanceManagerRole() throws Exception {
-        when(auditTrialManagementService.getPaymentAuditById(100L)).thenReturn(successResponse);
+        when(auditTrialManagementService.getPaymentAuditById(eq(100L), any(AuditHistoryRequest.class))).thenReturn(successResponse);
 
         mockMvc.perform(get("/api/v1/audits/100")
                         .with(csrf())
@@ -226,7 +233,24 @@ class AuditControllerTest {
                 .andExpect(jsonPath("$.message").value("Audit records fetched successfully"))
                 .andExpect(jsonPath("$.status").value("success"));
 
-        verify(auditTrialManagementService, times(1)).getPaymentAuditById(100L);
+        verify(auditTrialManagementService, times(1)).getPaymentAuditById(eq(100L), any(AuditHistoryRequest.class));
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    void getAuditById_PassesPagingParameters() throws Exception {
+        successResponse.setNextCursor(1L);
+        when(auditTrialManagementService.getPaymentAuditById(eq(100L), argThat(request ->
+                request.getAfter() == 5L && request.getLimit() == 1 && request.getLatest() == null)))
+                .thenReturn(successResponse);
+
+        mockMvc.perform(get("/api/v1/audits/100")
+                        .param("after", "5")
+                        .param("limit", "1")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value(1));
     }
 
     @Test
@@ -235,13 +259,13 @@ class AuditControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isUnauthorized());
 
-        verify(auditTrialManagementService, never()).getPaymentAuditById(100L);
+        verify(auditTrialManagementService, never()).getPaymentAuditById(eq(100L), any(AuditHistoryRequest.class));
     }
 
     @Test
     @WithMockUser(roles = {"ADMIN"})
     void getAuditById_EmptyList() throws Exception {
-        when(auditTrialManagementService.getPaymentAuditById(100L)).thenReturn(emptyResponse);
+        when(auditTrialManagementService.getPaymentAuditById(eq(100L), any(AuditHistoryRequest.class))).thenReturn(emptyResponse);
 
         mockMvc.perform(get("/api/v1/audits/100")
                         .with(csrf())
@@ -253,13 +277,13 @@ class AuditControllerTest {
                 .andExpect(jsonPath("$.audits").isArray())
                 .andExpect(jsonPath("$.audits").isEmpty());
 
-        verify(auditTrialManagementService, times(1)).getPaymentAuditById(100L);
+        verify(auditTrialManagementService, times(1)).getPaymentAuditById(eq(100L), any(AuditHistoryRequest.class));
     }
 
     @Test
     @WithMockUser(roles = {"ADMIN"})
     void getAuditById_ServiceException() throws Exception {
-        when(auditTrialManagementService.getPaymentAuditById(100L))
+        when(auditTrialManagementService.getPaymentAuditById(eq(100L), any(AuditHistoryRequest.class)))
                 .thenThrow(new PaymentManagementException(500, "An error occurred while fetching audit records", "FAILURE"));
 
         mockMvc.perform(get("/api/v1/audits/100")
@@ -267,13 +291,13 @@ class AuditControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isInternalServerError());
 
-        verify(auditTrialManagementService, times(1)).getPaymentAuditById(100L);
+        verify(auditTrialManagementService, times(1)).getPaymentAuditById(eq(100L), any(AuditHistoryRequest.class));
     }
 
     @Test
     @WithMockUser(roles = {"ADMIN"})
     void getAuditById_NotFound() throws Exception {
-        when(auditTrialManagementService.getPaymentAuditById(999L))
+        when(auditTrialManagementService.getPaymentAuditById(eq(999L), any(AuditHistoryRequest.class)))
                 .thenThrow(new PaymentManagementException(404, "Audit not found", "FAILURE"));
 
         mockMvc.perform(get("/api/v1/audits/999")
@@ -281,7 +305,7 @@ class AuditControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
 
-        verify(auditTrialManagementService, times(1)).getPaymentAuditById(999L);
+        verify(auditTrialManagementService, times(1)).getPaymentAuditById(eq(999L), any(AuditHistoryRequest.class));
     }
 
     @Test
@@ -292,7 +316,7 @@ class AuditControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isBadRequest());
 
-        verify(auditTrialManagementService, never()).getPaymentAuditById(any());
+        verify(auditTrialManagementService, never()).getPaymentAuditById(any(), any());
     }
 
     @Test
@@ -302,7 +326,7 @@ class AuditControllerTest {
         Audit audit2 = new Audit();
         audit2.setId(auditId2);
         audit2.setRevisionType("UPDATE");
-        audit2.setAmount("1500.0");
+        audit2.setAmount(Money.parse("1500.0"));
         audit2.setCurrency("INR");
         audit2.setCategory(PaymentCategory.VENDOR_SETTLEMENT);
         audit2.setType(PaymentType.INCOMING);
@@ -317,7 +341,7 @@ class AuditControllerTest {
                 .status("success")
                 .build();
 
-        when(auditTrialManagementService.getPaymentAuditById(100L)).thenReturn(multipleAuditsResponse);
+        when(auditTrialManagementService.getPaymentAuditById(eq(100L), any(AuditHistoryRequest.class))).thenReturn(multipleAuditsResponse);
 
         mockMvc.perform(get("/api/v1/audits/100")
                         .with(csrf())
@@ -329,11 +353,38 @@ class AuditControllerTest {
                 .andExpect(jsonPath("$.audits").isArray())
                 .andExpect(jsonPath("$.audits.length()").value(2))
                 .andExpect(jsonPath("$.audits[0].revisionType").value("CREATE"))
-                .andExpect(jsonPath("$.audits[0].amount").value("1000.0"))
+                .andExpect(jsonPath("$.audits[0].amount").value("1000.00"))
                 .andExpect(jsonPath("$.audits[1].revisionType").value("UPDATE"))
-                .andExpect(jsonPath("$.audits[1].amount").value("1500.0"))
+                .andExpect(jsonPath("$.audits[1].amount").value("1500.00"))
                 .andExpect(jsonPath("$.audits[1].createdBy").value("testuser2"));
 
-        verify(auditTrialManagementService, times(1)).getPaymentAuditById(100L);
+        verify(auditTrialManagementService, times(1)).getPaymentAuditById(eq(100L), any(AuditHistoryRequest.class));
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    void exportAudits_StreamsNdjson() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(0);
+            outputStream.write("{\"id\":{\"paymentId\":100,\"revisionCount\":1}}\n".getBytes());
+            return null;
+        }).when(auditTrialManagementService).exportAudits(any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/audits/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":{\"paymentId\":100,\"revisionCount\":1}}\n"));
+    }
+
+    @Test
+    void exportAudits_Unauthorized_WithoutAuthentication() throws Exception {
+        mockMvc.perform(get("/api/v1/audits/export"))
+                .andExpect(status().isUnauthorized());
+
+        verify(auditTrialManagementService, never()).exportAudits(any(OutputStream.class));
     }
-}
\ No newline at end of file
+}
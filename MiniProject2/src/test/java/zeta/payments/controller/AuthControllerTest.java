@@ -10,6 +10,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -18,11 +19,10 @@ import zeta.payments.commons.enums.UserRole;
 import zeta.payments.config.SecurityConfig;
 import zeta.payments.dto.request.LoginRequest;
 import zeta.payments.entity.User;
+import zeta.payments.exception.PaymentManagementException;
 import zeta.payments.repository.UserRepository;
 import zeta.payments.util.JwtUtil;
 
-import java.util.Optional;
-
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -76,7 +76,7 @@ class AuthControllerTest {
     void login_Success_WithValidCredentials() throws Exception {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(mockAuthentication);
-        when(userRepository.getUserByUserName("testuser")).thenReturn(Optional.of(testUser));
+        when(mockAuthentication.getPrincipal()).thenReturn(testUser);
         when(jwtUtil.generateToken("testuser", "ADMIN")).thenReturn("mock-jwt-token");
 
         mockMvc.perform(post("/api/auth/login")
@@ -90,7 +90,7 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.message").value("Login successful"));
 
         verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(userRepository, times(1)).getUserByUserName("testuser");
+        verify(userRepository, never()).getUserByUserName(anyString());
         verify(jwtUtil, times(1)).generateToken("testuser", "ADMIN");
     }
 
@@ -100,7 +100,7 @@ class AuthControllerTest {
 
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(mockAuthentication);
-        when(userRepository.getUserByUserName("testuser")).thenReturn(Optional.of(testUser));
+        when(mockAuthentication.getPrincipal()).thenReturn(testUser);
         when(jwtUtil.generateToken("testuser", "VIEWER")).thenReturn("mock-jwt-token");
 
         mockMvc.perform(post("/api/auth/login")
@@ -114,7 +114,7 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.message").value("Login successful"));
 
         verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(userRepository, times(1)).getUserByUserName("testuser");
+        verify(userRepository, never()).getUserByUserName(anyString());
         verify(jwtUtil, times(1)).generateToken("testuser", "VIEWER");
     }
 
@@ -124,7 +124,7 @@ class AuthControllerTest {
 
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(mockAuthentication);
-        when(userRepository.getUserByUserName("testuser")).thenReturn(Optional.of(testUser));
+        when(mockAuthentication.getPrincipal()).thenReturn(testUser);
         when(jwtUtil.generateToken("testuser", "FINANCE_MANAGER")).thenReturn("mock-jwt-token");
 
         mockMvc.perform(post("/api/auth/login")
@@ -138,15 +138,15 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.message").value("Login successful"));
 
         verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(userRepository, times(1)).getUserByUserName("testuser");
+        verify(userRepository, never()).getUserByUserName(anyString());
         verify(jwtUtil, times(1)).generateToken("testuser", "FINANCE_MANAGER");
     }
 
     @Test
-    void login_BadRequest_UserNotFoundAfterAuthentication() throws Exception {
+    void login_BadRequest_PrincipalNotAUser() throws Exception {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(mockAuthentication);
-        when(userRepository.getUserByUserName("testuser")).thenReturn(Optional.empty());
+        when(mockAuthentication.getPrincipal()).thenReturn("testuser");
 
         mockMvc.perform(post("/api/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -159,7 +159,7 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.role").doesNotExist());
 
         verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(userRepository, times(1)).getUserByUserName("testuser");
+        verify(userRepository, never()).getUserByUserName(anyString());
         verify(jwtUtil, never()).generateToken(anyString(), anyString());
     }
 
@@ -317,11 +317,11 @@ class AuthControllerTest {
     }
 
     @Test
-    void login_DatabaseException_DuringUserRetrieval() throws Exception {
+    void login_Exception_DuringPrincipalRetrieval() throws Exception {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(mockAuthentication);
-        when(userRepository.getUserByUserName("testuser"))
-                .thenThrow(new RuntimeException("Database connection error"));
+        when(mockAuthentication.getPrincipal())
+                .thenThrow(new RuntimeException("Principal unavailable"));
 
         mockMvc.perform(post("/api/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -331,7 +331,7 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.message").value("Invalid credentials"));
 
         verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(userRepository, times(1)).getUserByUserName("testuser");
+        verify(userRepository, never()).getUserByUserName(anyString());
         verify(jwtUtil, never()).generateToken(anyString(), anyString());
     }
 
@@ -339,7 +339,7 @@ class AuthControllerTest {
     void login_JwtGenerationException() throws Exception {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(mockAuthentication);
-        when(userRepository.getUserByUserName("testuser")).thenReturn(Optional.of(testUser));
+        when(mockAuthentication.getPrincipal()).thenReturn(testUser);
         when(jwtUtil.generateToken("testuser", "ADMIN"))
                 .thenThrow(new RuntimeException("JWT generation failed"));
 
@@ -351,7 +351,34 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.message").value("Invalid credentials"));
 
         verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(userRepository, times(1)).getUserByUserName("testuser");
+        verify(userRepository, never()).getUserByUserName(anyString());
         verify(jwtUtil, times(1)).generateToken("testuser", "ADMIN");
     }
-}
\ No newline at end of file
+
+    @Test
+    void login_TooManyRequests_WhenHashingPoolFull() throws Exception {
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenThrow(new PaymentManagementException(429, "Too many password requests. Please retry shortly.", "FAILURE"));
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validLoginRequest)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.code").value(429));
+
+        verify(jwtUtil, never()).generateToken(anyString(), anyString());
+    }
+
+    @Test
+    void login_TooManyRequests_WhenWrappedByUserLookup() throws Exception {
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenThrow(new InternalAuthenticationServiceException("lookup failed",
+                        new PaymentManagementException(429, "Too many password requests. Please retry shortly.", "FAILURE")));
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validLoginRequest)))
+                .andExpect(status().isTooManyRequests());
+    }
+}
@@ -11,10 +11,14 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import zeta.payments.commons.money.Money;
 import zeta.payments.commons.enums.PaymentCategory;
 import zeta.payments.commons.enums.PaymentStatus;
 import zeta.payments.commons.enums.PaymentType;
 import zeta.payments.config.SecurityConfig;
+import zeta.payments.dto.request.PaymentSearchRequest;
+import zeta.payments.dto.response.PaymentBatchResponse;
 import zeta.payments.dto.response.PaymentLifeCycleManagementResponse;
 import zeta.payments.dto.response.ReportResponse;
 import zeta.payments.entity.Payment;
@@ -22,10 +26,12 @@ import zeta.payments.exception.PaymentManagementException;
 import zeta.payments.service.impl.PaymentManagementServiceImpl;
 import zeta.payments.util.JwtUtil;
 
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.Mockito.*;
@@ -60,7 +66,7 @@ class PaymentControllerTest {
     void setUp() {
         testPayment = new Payment();
         testPayment.setId(1l);
-        testPayment.setAmount("1000.0");
+        testPayment.setAmount(Money.parse("1000.0"));
         testPayment.setCurrency("INR");
         testPayment.setCategory(PaymentCategory.REFUND);
         testPayment.setType(PaymentType.INCOMING);
@@ -107,7 +113,7 @@ class PaymentControllerTest {
                 .andExpect(jsonPath("$.status").value("SUCCESS"))
                 .andExpect(jsonPath("$.payments").isArray())
                 .andExpect(jsonPath("$.payments[0].id").value(1L))
-                .andExpect(jsonPath("$.payments[0].amount").value("1000.0"))
+                .andExpect(jsonPath("$.payments[0].amount").value("1000.00"))
                 .andExpect(jsonPath("$.payments[0].currency").value("INR"))
                 .andExpect(jsonPath("$.payments[0].category").value("REFUND"))
                 .andExpect(jsonPath("$.payments[0].type").value("INCOMING"))
@@ -164,7 +170,7 @@ class PaymentControllerTest {
     @Test
     @WithMockUser(roles = {"ADMIN"})
     void getAllPayments_Success_WithAdminRole() throws Exception {
-        when(paymentManagementService.getAllPayment()).thenReturn(successResponse);
+        when(paymentManagementService.getPayments(any(PaymentSearchRequest.class))).thenReturn(successResponse);
 
         mockMvc.perform(get("/api/v1/payments")
                         .with(csrf())
@@ -176,13 +182,13 @@ class PaymentControllerTest {
                 .andExpect(jsonPath("$.payments").isArray())
                 .andExpect(jsonPath("$.payments[0].id").value(1L));
 
-        verify(paymentManagementService, times(1)).getAllPayment();
+        verify(paymentManagementService, times(1)).getPayments(any(PaymentSearchRequest.class));
     }
 
     @Test
     @WithMockUser(roles = {"VIEWER"})
     void getAllPayments_Success_WithViewerRole() throws Exception {
-        when(paymentManagementService.getAllPayment()).thenReturn(successResponse);
+        when(paymentManagementService.getPayments(any(PaymentSearchRequest.class))).thenReturn(successResponse);
 
         mockMvc.perform(get("/api/v1/payments")
                         .with(csrf())
@@ -191,7 +197,7 @@ class PaymentControllerTest {
                 .andExpect(jsonPath("$.message").value("Operation successful"))
                 .andExpect(jsonPath("$.status").value("SUCCESS"));
 
-        verify(paymentManagementService, times(1)).getAllPayment();
+        verify(paymentManagementService, times(1)).getPayments(any(PaymentSearchRequest.class));
     }
 
     @Test
@@ -203,7 +209,7 @@ class PaymentControllerTest {
                 .status("SUCCESS")
                 .build();
 
-        when(paymentManagementService.getAllPayment()).thenReturn(emptyResponse);
+        when(paymentManagementService.getPayments(any(PaymentSearchRequest.class))).thenReturn(emptyResponse);
 
         mockMvc.perform(get("/api/v1/payments")
                         .with(csrf())
@@ -212,7 +218,81 @@ class PaymentControllerTest {
                 .andExpect(jsonPath("$.payments").isArray())
                 .andExpect(jsonPath("$.payments").isEmpty());
 
-        verify(paymentManagementService, times(1)).getAllPayment();
+        verify(paymentManagementService, times(1)).getPayments(any(PaymentSearchRequest.class));
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    void getPayments_WithCursorAndFilters() throws Exception {
+        PaymentLifeCycleManagementResponse pageResponse = PaymentLifeCycleManagementResponse.builder()
+                .payments(Arrays.asList(testPayment))
+                .message("Payments Fetched Successfully")
+                .status("SUCCESS")
+                .nextCursor(1L)
+                .build();
+        when(paymentManagementService.getPayments(any(PaymentSearchRequest.class))).thenReturn(pageResponse);
+
+        mockMvc.perform(get("/api/v1/payments")
+                        .param("after", "0")
+                        .param("limit", "1")
+                        .param("status", "COMPLETED")
+                        .param("type", "INCOMING")
+                        .param("category", "REFUND")
+                        .param("currency", "INR")
+                        .param("createdFrom", "1700000000000")
+                        .param("createdTo", "1800000000000")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value(1L))
+                .andExpect(jsonPath("$.payments[0].id").value(1L));
+
+        verify(paymentManagementService, times(1)).getPayments(argThat(request ->
+                request.getAfter() == 0L
+                        && request.getLimit() == 1
+                        && request.getStatus() == PaymentStatus.COMPLETED
+                        && request.getType() == PaymentType.INCOMING
+                        && request.getCategory() == PaymentCategory.REFUND
+                        && "INR".equals(request.getCurrency())
+                        && request.getCreatedFrom() == 1700000000000L
+                        && request.getCreatedTo() == 1800000000000L));
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    void getPayments_LastPage_OmitsNextCursor() throws Exception {
+        when(paymentManagementService.getPayments(any(PaymentSearchRequest.class))).thenReturn(successResponse);
+
+        mockMvc.perform(get("/api/v1/payments").param("after", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(roles = {"FINANCE_MANAGER"})
+    void exportPayments_StreamsNdjson() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(0);
+            outputStream.write("{\"id\":1}\n{\"id\":2}\n".getBytes());
+            return null;
+        }).when(paymentManagementService).exportPayments(any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/payments/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+    @Test
+    @WithMockUser(roles = {"VIEWER"})
+    void exportPayments_Forbidden_WithViewerRole() throws Exception {
+        mockMvc.perform(get("/api/v1/payments/export"))
+                .andExpect(status().isForbidden());
+
+        verify(paymentManagementService, never()).exportPayments(any(OutputStream.class));
     }
 
     // POST /api/v1/payments Tests
@@ -274,6 +354,91 @@ class PaymentControllerTest {
         verify(paymentManagementService, never()).createPaymentRecord(any(Payment.class));
     }
 
+    @Test
+    @WithMockUser(roles = {"FINANCE_MANAGER"})
+    void createPaymentRecord_WithIdempotencyKey_PassesKeyToService() throws Exception {
+        when(paymentManagementService.createPaymentRecord(any(Payment.class), eq("retry-key-1"))).thenReturn(successResponse);
+
+        mockMvc.perform(post("/api/v1/payments")
+                        .with(csrf())
+                        .header("Idempotency-Key", "retry-key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(testPayment)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SUCCESS"));
+
+        verify(paymentManagementService, times(1)).createPaymentRecord(any(Payment.class), eq("retry-key-1"));
+        verify(paymentManagementService, never()).createPaymentRecord(any(Payment.class));
+    }
+
+    @Test
+    @WithMockUser(roles = {"FINANCE_MANAGER"})
+    void createPaymentRecord_IdempotencyKeyReusedWithDifferentBody_ReturnsUnprocessable() throws Exception {
+        when(paymentManagementService.createPaymentRecord(any(Payment.class), eq("retry-key-1")))
+                .thenThrow(new PaymentManagementException(422, "Idempotency-Key was already used for a different request", "FAILURE"));
+
+        mockMvc.perform(post("/api/v1/payments")
+                        .with(csrf())
+                        .header("Idempotency-Key", "retry-key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(testPayment)))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    // POST /api/v1/payments:batch Tests
+    @Test
+    @WithMockUser(roles = {"FINANCE_MANAGER"})
+    void createPaymentRecords_Success_ReturnsPerItemResults() throws Exception {
+        PaymentBatchResponse batchResponse = PaymentBatchResponse.builder()
+                .message("Batch Processed: 1 created, 1 failed")
+                .status("PARTIAL_SUCCESS")
+                .created(1)
+                .failed(1)
+                .results(List.of(
+                        new PaymentBatchResponse.ItemResult(0, "CREATED", 101L, null),
+                        new PaymentBatchResponse.ItemResult(1, "FAILED", null, "Amount must be positive")))
+                .build();
+        when(paymentManagementService.createPaymentRecords(anyList())).thenReturn(batchResponse);
+
+        mockMvc.perform(post("/api/v1/payments:batch")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("payments", List.of(testPayment, testPayment)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PARTIAL_SUCCESS"))
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.results[0].paymentId").value(101))
+                .andExpect(jsonPath("$.results[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.results[1].paymentId").doesNotExist());
+
+        verify(paymentManagementService, times(1)).createPaymentRecords(argThat(payments -> payments.size() == 2));
+    }
+
+    @Test
+    @WithMockUser(roles = {"VIEWER"})
+    void createPaymentRecords_Forbidden_WithViewerRole() throws Exception {
+        mockMvc.perform(post("/api/v1/payments:batch")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("payments", List.of(testPayment)))))
+                .andExpect(status().isForbidden());
+
+        verify(paymentManagementService, never()).createPaymentRecords(anyList());
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    void createPaymentRecords_BatchTooLarge_ReturnsBadRequest() throws Exception {
+        when(paymentManagementService.createPaymentRecords(anyList()))
+                .thenThrow(new PaymentManagementException(400, "Batch must contain between 1 and 5000 payments", "FAILURE"));
+
+        mockMvc.perform(post("/api/v1/payments:batch")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("payments", List.of(testPayment)))))
+                .andExpect(status().isBadRequest());
+    }
+
     // PUT /api/v1/payments/{id} Tests
     @Test
     @WithMockUser(roles = {"FINANCE_MANAGER"})
@@ -468,7 +633,7 @@ class PaymentControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isUnauthorized());
 
-        verify(paymentManagementService, never()).getAllPayment();
+        verify(paymentManagementService, never()).getPayments(any(PaymentSearchRequest.class));
     }
 
     @Test
@@ -333,4 +333,23 @@ class PaymentExceptionHandlerTest {
         assertEquals(response1.getBody().getMessage(), response2.getBody().getMessage());
         assertEquals(response2.getBody().getMessage(), response3.getBody().getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void handleTisMandateException_TooManyRequests_SetsRetryAfter() {
+        testException = new PaymentManagementException(429, "Too many password requests. Please retry shortly.", "FAILURE");
+
+        ResponseEntity<ErrorResponse> response = paymentExceptionHandler.handleTisMandateException(testException);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst("Retry-After"));
+    }
+
+    @Test
+    void handleTisMandateException_NotFound_NoRetryAfter() {
+        testException = new PaymentManagementException(404, "Payment not found", "FAILURE");
+
+        ResponseEntity<ErrorResponse> response = paymentExceptionHandler.handleTisMandateException(testException);
+
+        assertNull(response.getHeaders().getFirst("Retry-After"));
+    }
+}
@@ -0,0 +1,65 @@
+package zeta.payments.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AmountBackfillServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private AmountBackfillServiceImpl amountBackfillService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(amountBackfillService, "chunkSize", 2);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        when(jdbcTemplate.queryForObject(contains("set_config"), eq(String.class))).thenReturn("on");
+    }
+
+    @Test
+    void backfillAmounts_ConvertsInChunksUntilNothingIsLeft() {
+        when(jdbcTemplate.update(contains("payment_details"), eq(2))).thenReturn(2, 1, 0);
+        when(jdbcTemplate.update(contains("audit_trail"), eq(2))).thenReturn(2, 0);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COUNT"), eq(Long.class))).thenReturn(0L);
+
+        long converted = amountBackfillService.backfillAmounts();
+
+        assertEquals(5, converted);
+        verify(transactionTemplate, times(5)).execute(any());
+        verify(jdbcTemplate, times(5)).queryForObject(contains("set_config('payment_system.amount_backfill'"), eq(String.class));
+    }
+
+    @Test
+    void backfillAmounts_NothingToConvert() {
+        when(jdbcTemplate.update(anyString(), eq(2))).thenReturn(0);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COUNT"), eq(Long.class))).thenReturn(3L);
+
+        assertEquals(0, amountBackfillService.backfillAmounts());
+    }
+
+    @Test
+    void onApplicationReady_Exception_DoesNotPropagate() {
+        when(jdbcTemplate.update(anyString(), eq(2))).thenThrow(new RuntimeException("Database error"));
+
+        assertDoesNotThrow(() -> amountBackfillService.onApplicationReady());
+    }
+}
@@ -0,0 +1,62 @@
+package zeta.payments.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditOutboxServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private AuditOutboxServiceImpl auditOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(auditOutboxService, "batchSize", 3);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void drainOutbox_DrainsFullBatchesUntilAShortOne() {
+        when(jdbcTemplate.update(anyString(), eq(3))).thenReturn(3, 3, 1);
+
+        long drained = auditOutboxService.drainOutbox();
+
+        assertEquals(7, drained);
+        verify(transactionTemplate, times(3)).execute(any());
+        verify(jdbcTemplate, times(3)).update(contains("DELETE FROM payment_system.audit_outbox"), eq(3));
+    }
+
+    @Test
+    void drainOutbox_EmptyOutbox_SingleRoundTrip() {
+        when(jdbcTemplate.update(anyString(), eq(3))).thenReturn(0);
+
+        assertEquals(0, auditOutboxService.drainOutbox());
+        verify(jdbcTemplate, times(1)).update(contains("INSERT INTO payment_system.audit_trail"), eq(3));
+    }
+
+    @Test
+    void drainOnSchedule_Exception_DoesNotPropagate() {
+        when(jdbcTemplate.update(anyString(), eq(3))).thenThrow(new RuntimeException("Database error"));
+
+        assertDoesNotThrow(() -> auditOutboxService.drainOnSchedule());
+    }
+}
@@ -1,32 +1,51 @@
 package zeta.payments.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import zeta.payments.commons.money.Money;
 import zeta.payments.commons.enums.PaymentCategory;
 import zeta.payments.commons.enums.PaymentStatus;
 import zeta.payments.commons.enums.PaymentType;
+import zeta.payments.dto.request.AuditHistoryRequest;
 import zeta.payments.dto.response.AuditLifeCycleManagementResponse;
 import zeta.payments.entity.Audit;
 import zeta.payments.exception.PaymentManagementException;
 import zeta.payments.repository.AuditTrialRepository;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class AuditTrialManagementServiceImplTest {
 
+    // The default page of 50 plus the one extra row that tells whether another page exists.
+    private static final Limit FIRST_PAGE_LIMIT = Limit.of(51);
+
     @Mock
     private AuditTrialRepository auditTrialRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private AuditTrialManagementServiceImpl auditTrialManagementService;
 
@@ -40,7 +59,7 @@ class AuditTrialManagementServiceImplTest {
         testAudit = new Audit();
         testAudit.setId(auditId);
         testAudit.setRevisionType("CREATE");
-        testAudit.setAmount("1000.0");
+        testAudit.setAmount(Money.parse("1000.0"));
         testAudit.setCurrency("INR");
         testAudit.setCategory(PaymentCategory.VENDOR_SETTLEMENT);
         testAudit.setType(PaymentType.INCOMING);
@@ -54,9 +73,9 @@ class AuditTrialManagementServiceImplTest {
     @Test
     void getPaymentAuditById_Success() {
         List<Audit> audits = Arrays.asList(testAudit);
-        when(auditTrialRepository.findByPaymentId(100L)).thenReturn(audits);
+        when(auditTrialRepository.findRevisionsAfter(100L, 0L, FIRST_PAGE_LIMIT)).thenReturn(audits);
 
-        AuditLifeCycleManagementResponse response = auditTrialManagementService.getPaymentAuditById(100L);
+        AuditLifeCycleManagementResponse response = auditTrialManagementService.getPaymentAuditById(100L, AuditHistoryRequest.builder().build());
 
         assertNotNull(response);
         assertEquals("Audit records fetched successfully", response.getMessage());
@@ -75,33 +94,33 @@ class AuditTrialManagementServiceImplTest {
         assertEquals(testAudit.getAccountName(), returnedAudit.getAccountName());
         assertEquals(testAudit.getCreatedBy(), returnedAudit.getCreatedBy());
 
-        verify(auditTrialRepository).findByPaymentId(100L);
+        verify(auditTrialRepository).findRevisionsAfter(100L, 0L, FIRST_PAGE_LIMIT);
     }
 
     @Test
     void getPaymentAuditById_EmptyList() {
-        when(auditTrialRepository.findByPaymentId(100L)).thenReturn(Collections.emptyList());
+        when(auditTrialRepository.findRevisionsAfter(100L, 0L, FIRST_PAGE_LIMIT)).thenReturn(Collections.emptyList());
 
-        AuditLifeCycleManagementResponse response = auditTrialManagementService.getPaymentAuditById(100L);
+        AuditLifeCycleManagementResponse response = auditTrialManagementService.getPaymentAuditById(100L, AuditHistoryRequest.builder().build());
 
         assertNotNull(response);
         assertEquals("Audit records fetched successfully", response.getMessage());
         assertEquals("success", response.getStatus());
         assertTrue(response.getAudits().isEmpty());
-        verify(auditTrialRepository).findByPaymentId(100L);
+        verify(auditTrialRepository).findRevisionsAfter(100L, 0L, FIRST_PAGE_LIMIT);
     }
 
     @Test
     void getPaymentAuditById_Exception() {
-        when(auditTrialRepository.findByPaymentId(100L)).thenThrow(new RuntimeException("Database connection failed"));
+        when(auditTrialRepository.findRevisionsAfter(100L, 0L, FIRST_PAGE_LIMIT)).thenThrow(new RuntimeException("Database connection failed"));
 
         PaymentManagementException exception = assertThrows(PaymentManagementException.class,
-                () -> auditTrialManagementService.getPaymentAuditById(100L));
+                () -> auditTrialManagementService.getPaymentAuditById(100L, AuditHistoryRequest.builder().build()));
 
         assertEquals(500, exception.getHttpStatus());
         assertEquals("An error occurred while fetching audit records", exception.getMessage());
         assertEquals("FAILURE", exception.getStatus());
-        verify(auditTrialRepository).findByPaymentId(100L);
+        verify(auditTrialRepository).findRevisionsAfter(100L, 0L, FIRST_PAGE_LIMIT);
     }
 
     @Test
@@ -156,7 +175,7 @@ class AuditTrialManagementServiceImplTest {
         Audit audit2 = new Audit();
         audit2.setId(auditId2);
         audit2.setRevisionType("UPDATE");
-        audit2.setAmount("2000.0");
+        audit2.setAmount(Money.parse("2000.0"));
         audit2.setCurrency("USD");
         audit2.setCategory(PaymentCategory.REFUND);
         audit2.setType(PaymentType.OUTGOING);
@@ -202,7 +221,7 @@ class AuditTrialManagementServiceImplTest {
         Audit audit2 = new Audit();
         audit2.setId(auditId2);
         audit2.setRevisionType("UPDATE");
-        audit2.setAmount("1500.0");
+        audit2.setAmount(Money.parse("1500.0"));
         audit2.setCurrency("INR");
         audit2.setCategory(PaymentCategory.SALARY);
         audit2.setType(PaymentType.INCOMING);
@@ -213,9 +232,9 @@ class AuditTrialManagementServiceImplTest {
         audit2.setUpdatedAt(System.currentTimeMillis());
 
         List<Audit> audits = Arrays.asList(testAudit, audit2);
-        when(auditTrialRepository.findByPaymentId(100L)).thenReturn(audits);
+        when(auditTrialRepository.findRevisionsAfter(100L, 0L, FIRST_PAGE_LIMIT)).thenReturn(audits);
 
-        AuditLifeCycleManagementResponse response = auditTrialManagementService.getPaymentAuditById(100L);
+        AuditLifeCycleManagementResponse response = auditTrialManagementService.getPaymentAuditById(100L, AuditHistoryRequest.builder().build());
 
         assertNotNull(response);
         assertEquals("Audit records fetched successfully", response.getMessage());
@@ -234,30 +253,106 @@ class AuditTrialManagementServiceImplTest {
             if (audit.getId().getRevisionCount().equals(1L)) {
                 foundRevision1 = true;
                 assertEquals("CREATE", audit.getRevisionType());
-                assertEquals("1000.0", audit.getAmount());
+                assertEquals(Money.parse("1000.0"), audit.getAmount());
             } else if (audit.getId().getRevisionCount().equals(2L)) {
                 foundRevision2 = true;
                 assertEquals("UPDATE", audit.getRevisionType());
-                assertEquals("1500.0", audit.getAmount());
+                assertEquals(Money.parse("1500.0"), audit.getAmount());
             }
         }
         assertTrue(foundRevision1);
         assertTrue(foundRevision2);
 
-        verify(auditTrialRepository).findByPaymentId(100L);
+        verify(auditTrialRepository).findRevisionsAfter(100L, 0L, FIRST_PAGE_LIMIT);
     }
 
     @Test
     void getPaymentAuditById_NullPaymentId() {
-        when(auditTrialRepository.findByPaymentId(null)).thenThrow(new IllegalArgumentException("Payment ID cannot be null"));
+        when(auditTrialRepository.findRevisionsAfter(null, 0L, FIRST_PAGE_LIMIT)).thenThrow(new IllegalArgumentException("Payment ID cannot be null"));
 
         PaymentManagementException exception = assertThrows(PaymentManagementException.class,
-                () -> auditTrialManagementService.getPaymentAuditById(null));
+                () -> auditTrialManagementService.getPaymentAuditById(null, AuditHistoryRequest.builder().build()));
 
         assertEquals(500, exception.getHttpStatus());
         assertEquals("An error occurred while fetching audit records", exception.getMessage());
         assertEquals("FAILURE", exception.getStatus());
-        verify(auditTrialRepository).findByPaymentId(null);
+        verify(auditTrialRepository).findRevisionsAfter(null, 0L, FIRST_PAGE_LIMIT);
+    }
+
+    @Test
+    void getPaymentAuditById_MoreRevisionsThanLimit_ReturnsCursor() {
+        Audit audit2 = new Audit();
+        audit2.setId(new Audit.AuditId(100L, 2L));
+        Audit audit3 = new Audit();
+        audit3.setId(new Audit.AuditId(100L, 3L));
+        when(auditTrialRepository.findRevisionsAfter(100L, 0L, Limit.of(3)))
+                .thenReturn(Arrays.asList(testAudit, audit2, audit3));
+
+        AuditLifeCycleManagementResponse response = auditTrialManagementService.getPaymentAuditById(100L,
+                AuditHistoryRequest.builder().limit(2).build());
+
+        assertEquals(2, response.getAudits().size());
+        assertEquals(2L, response.getNextCursor());
+    }
+
+    @Test
+    void getPaymentAuditById_AfterCursor_ResumesFromRevision() {
+        Audit audit3 = new Audit();
+        audit3.setId(new Audit.AuditId(100L, 3L));
+        when(auditTrialRepository.findRevisionsAfter(100L, 2L, Limit.of(3))).thenReturn(List.of(audit3));
+
+        AuditLifeCycleManagementResponse response = auditTrialManagementService.getPaymentAuditById(100L,
+                AuditHistoryRequest.builder().after(2L).limit(2).build());
+
+        assertEquals(1, response.getAudits().size());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    void getPaymentAuditById_Latest_ReturnsNewestRevisionsOldestFirst() {
+        Audit audit2 = new Audit();
+        audit2.setId(new Audit.AuditId(100L, 2L));
+        Audit audit3 = new Audit();
+        audit3.setId(new Audit.AuditId(100L, 3L));
+        when(auditTrialRepository.findLatestRevisions(100L, Limit.of(2))).thenReturn(Arrays.asList(audit3, audit2));
+
+        AuditLifeCycleManagementResponse response = auditTrialManagementService.getPaymentAuditById(100L,
+                AuditHistoryRequest.builder().latest(2).build());
+
+        assertEquals(List.of(audit2, audit3), response.getAudits());
+        assertNull(response.getNextCursor());
+        verify(auditTrialRepository, never()).findRevisionsAfter(any(), any(), any());
+    }
+
+    @Test
+    void getPaymentAuditById_LatestWithAfter_ThrowsBadRequest() {
+        PaymentManagementException exception = assertThrows(PaymentManagementException.class,
+                () -> auditTrialManagementService.getPaymentAuditById(100L,
+                        AuditHistoryRequest.builder().after(2L).latest(2).build()));
+
+        assertEquals(400, exception.getHttpStatus());
+        verifyNoInteractions(auditTrialRepository);
+    }
+
+    @Test
+    void getPaymentAuditById_LatestWithLimit_ThrowsBadRequest() {
+        PaymentManagementException exception = assertThrows(PaymentManagementException.class,
+                () -> auditTrialManagementService.getPaymentAuditById(100L,
+                        AuditHistoryRequest.builder().limit(10).latest(2).build()));
+
+        assertEquals(400, exception.getHttpStatus());
+        assertEquals("limit and latest cannot be combined", exception.getMessage());
+        verifyNoInteractions(auditTrialRepository);
+    }
+
+    @Test
+    void getPaymentAuditById_LimitOutOfRange_ThrowsBadRequest() {
+        PaymentManagementException exception = assertThrows(PaymentManagementException.class,
+                () -> auditTrialManagementService.getPaymentAuditById(100L,
+                        AuditHistoryRequest.builder().limit(501).build()));
+
+        assertEquals(400, exception.getHttpStatus());
+        assertEquals("Limit must be between 1 and 500", exception.getMessage());
     }
 
     @Test
@@ -270,4 +365,29 @@ class AuditTrialManagementServiceImplTest {
         assertNotEquals(id1, id3);
         assertEquals(id1.hashCode(), id2.hashCode());
     }
+
+    @Test
+    void exportAudits_WritesOneAuditPerLine() {
+        when(auditTrialRepository.streamAllAudits()).thenReturn(Stream.of(testAudit));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        auditTrialManagementService.exportAudits(outputStream);
+
+        String output = outputStream.toString();
+        assertTrue(output.endsWith("\n"));
+        assertEquals(1, output.split("\n").length);
+        assertTrue(output.contains("\"paymentId\":100"));
+        verify(entityManager).detach(testAudit);
+    }
+
+    @Test
+    void exportAudits_Exception() {
+        when(auditTrialRepository.streamAllAudits()).thenThrow(new RuntimeException("Database error"));
+
+        PaymentManagementException exception = assertThrows(PaymentManagementException.class,
+                () -> auditTrialManagementService.exportAudits(OutputStream.nullOutputStream()));
+
+        assertEquals(500, exception.getHttpStatus());
+        assertEquals("Internal Server Error", exception.getMessage());
+    }
 }
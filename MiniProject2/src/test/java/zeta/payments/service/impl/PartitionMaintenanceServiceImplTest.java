@@ -0,0 +1,63 @@
+package zeta.payments.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionMaintenanceServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private PartitionMaintenanceServiceImpl partitionMaintenanceService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(partitionMaintenanceService, "monthsAhead", 3);
+    }
+
+    @Test
+    void maintainPartitions_CreatesFuturePartitionsForBothTables() {
+        when(jdbcTemplate.queryForObject(contains("create_monthly_partitions"), eq(Integer.class), anyString(), eq(3)))
+                .thenReturn(1, 0);
+
+        partitionMaintenanceService.maintainPartitions();
+
+        verify(jdbcTemplate).queryForObject(contains("create_monthly_partitions"), eq(Integer.class), eq("payment_details"), eq(3));
+        verify(jdbcTemplate).queryForObject(contains("create_monthly_partitions"), eq(Integer.class), eq("audit_trail"), eq(3));
+        verify(jdbcTemplate, never()).queryForObject(contains("archive_monthly_partitions"), eq(Integer.class), any(), any());
+    }
+
+    @Test
+    void maintainPartitions_RetentionConfigured_ArchivesOnlyThatTable() {
+        ReflectionTestUtils.setField(partitionMaintenanceService, "auditRetentionMonths", 24);
+        when(jdbcTemplate.queryForObject(contains("create_monthly_partitions"), eq(Integer.class), anyString(), eq(3)))
+                .thenReturn(0);
+        when(jdbcTemplate.queryForObject(contains("archive_monthly_partitions"), eq(Integer.class), eq("audit_trail"), eq(24)))
+                .thenReturn(2);
+
+        partitionMaintenanceService.maintainPartitions();
+
+        verify(jdbcTemplate).queryForObject(contains("archive_monthly_partitions"), eq(Integer.class), eq("audit_trail"), eq(24));
+        verify(jdbcTemplate, never()).queryForObject(contains("archive_monthly_partitions"), eq(Integer.class), eq("payment_details"), any());
+    }
+
+    @Test
+    void onSchedule_Exception_DoesNotPropagate() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), any(), any()))
+                .thenThrow(new RuntimeException("Database error"));
+
+        assertDoesNotThrow(() -> partitionMaintenanceService.onSchedule());
+    }
+}
@@ -0,0 +1,263 @@
+package zeta.payments.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import zeta.payments.commons.enums.PaymentCategory;
+import zeta.payments.commons.enums.PaymentStatus;
+import zeta.payments.commons.enums.PaymentType;
+import zeta.payments.commons.money.Money;
+import zeta.payments.dto.response.PaymentLifeCycleManagementResponse;
+import zeta.payments.entity.Payment;
+import zeta.payments.entity.PaymentIdempotency;
+import zeta.payments.exception.PaymentManagementException;
+import zeta.payments.repository.PaymentIdempotencyRepository;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentIdempotencyServiceImplTest {
+
+    private static final String KEY = "salary-run-2024-01-31-0001";
+    private static final String USER = "finance";
+
+    @Mock
+    private PaymentIdempotencyRepository paymentIdempotencyRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private PaymentIdempotencyServiceImpl paymentIdempotencyService;
+    private Payment payment;
+    private AtomicInteger creations;
+    private Supplier<PaymentLifeCycleManagementResponse> createPayment;
+
+    @BeforeEach
+    void setUp() {
+        paymentIdempotencyService = new PaymentIdempotencyServiceImpl(100, Duration.ofHours(1));
+        ReflectionTestUtils.setField(paymentIdempotencyService, "paymentIdempotencyRepository", paymentIdempotencyRepository);
+        ReflectionTestUtils.setField(paymentIdempotencyService, "transactionTemplate", transactionTemplate);
+        ReflectionTestUtils.setField(paymentIdempotencyService, "objectMapper", new ObjectMapper());
+
+        payment = new Payment();
+        payment.setAmount(Money.parse("1500.00"));
+        payment.setCurrency("INR");
+        payment.setType(PaymentType.OUTGOING);
+        payment.setCategory(PaymentCategory.SALARY);
+        payment.setStatus(PaymentStatus.PENDING);
+        payment.setAccountName("Employee");
+        payment.setCreatedBy("finance");
+        authenticateAs(USER);
+
+        creations = new AtomicInteger();
+        createPayment = () -> {
+            creations.incrementAndGet();
+            payment.setId(42L);
+            return PaymentLifeCycleManagementResponse.builder()
+                    .payments(List.of(payment))
+                    .message("Payment Created Successfully")
+                    .status("SUCCESS")
+                    .build();
+        };
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void execute_NewKey_CreatesPaymentAndStoresResponse() {
+        runTransactionsInline();
+        when(paymentIdempotencyRepository.findByCreatedByAndIdempotencyKey(USER, KEY)).thenReturn(Optional.empty());
+        when(paymentIdempotencyRepository.claimKey(eq(KEY), anyString(), eq(USER))).thenReturn(1);
+
+        PaymentLifeCycleManagementResponse response = paymentIdempotencyService.execute(KEY, payment, createPayment);
+
+        assertEquals("SUCCESS", response.getStatus());
+        assertEquals(1, creations.get());
+        verify(paymentIdempotencyRepository).storeResponse(eq(USER), eq(KEY), eq(42L), contains("Payment Created Successfully"));
+    }
+
+    @Test
+    void execute_RepeatedKey_ReplaysFromMemoryWithoutCreating() {
+        runTransactionsInline();
+        when(paymentIdempotencyRepository.findByCreatedByAndIdempotencyKey(USER, KEY)).thenReturn(Optional.empty());
+        when(paymentIdempotencyRepository.claimKey(eq(KEY), anyString(), eq(USER))).thenReturn(1);
+        paymentIdempotencyService.execute(KEY, payment, createPayment);
+        payment.setId(null);
+
+        PaymentLifeCycleManagementResponse replayed = paymentIdempotencyService.execute(KEY, payment, createPayment);
+
+        assertEquals(1, creations.get());
+        assertEquals("Payment Created Successfully", replayed.getMessage());
+        assertEquals(42L, replayed.getPayments().get(0).getId());
+        assertEquals("1500.00", replayed.getPayments().get(0).getAmount().toString());
+        verify(paymentIdempotencyRepository, times(1)).findByCreatedByAndIdempotencyKey(USER, KEY);
+        verify(transactionTemplate, times(1)).execute(any());
+    }
+
+    @Test
+    void execute_KeyStoredInDatabase_ReplaysWithoutCreating() throws Exception {
+        storeResponseFromEarlierRequest();
+
+        PaymentLifeCycleManagementResponse replayed = paymentIdempotencyService.execute(KEY, payment, createPayment);
+
+        assertEquals("SUCCESS", replayed.getStatus());
+        assertEquals(0, creations.get());
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    void execute_KeyReusedWithDifferentPayload_ThrowsUnprocessable() throws Exception {
+        storeResponseFromEarlierRequest();
+        payment.setAmount(Money.parse("9999.00"));
+
+        PaymentManagementException exception = assertThrows(PaymentManagementException.class,
+                () -> paymentIdempotencyService.execute(KEY, payment, createPayment));
+
+        assertEquals(422, exception.getHttpStatus());
+        assertEquals(0, creations.get());
+    }
+
+    @Test
+    void execute_ConcurrentRequestWonClaim_ReplaysWinnerResponse() throws Exception {
+        runTransactionsInline();
+        String requestHash = hashOf(payment);
+        PaymentIdempotency winner = new PaymentIdempotency(KEY, requestHash, 42L,
+                new ObjectMapper().writeValueAsString(createPayment.get()), "finance", 1L);
+        creations.set(0);
+        payment.setId(null);
+        when(paymentIdempotencyRepository.findByCreatedByAndIdempotencyKey(USER, KEY)).thenReturn(Optional.empty(), Optional.of(winner));
+        when(paymentIdempotencyRepository.claimKey(eq(KEY), anyString(), eq(USER))).thenReturn(0);
+
+        PaymentLifeCycleManagementResponse response = paymentIdempotencyService.execute(KEY, payment, createPayment);
+
+        assertEquals("SUCCESS", response.getStatus());
+        assertEquals(0, creations.get());
+        verify(paymentIdempotencyRepository, never()).storeResponse(any(), any(), any(), any());
+    }
+
+    @Test
+    void execute_CreationFails_PropagatesAndCachesNothing() {
+        runTransactionsInline();
+        when(paymentIdempotencyRepository.findByCreatedByAndIdempotencyKey(USER, KEY)).thenReturn(Optional.empty());
+        when(paymentIdempotencyRepository.claimKey(eq(KEY), anyString(), eq(USER))).thenReturn(1);
+
+        assertThrows(PaymentManagementException.class, () -> paymentIdempotencyService.execute(KEY, payment,
+                () -> {
+                    throw new PaymentManagementException(500, "Internal Server Error", "FAILURE");
+                }));
+
+        verify(paymentIdempotencyRepository, never()).storeResponse(any(), any(), any(), any());
+        verify(paymentIdempotencyRepository, times(1)).findByCreatedByAndIdempotencyKey(USER, KEY);
+    }
+
+    @Test
+    void execute_BlankKey_ThrowsBadRequest() {
+        PaymentManagementException exception = assertThrows(PaymentManagementException.class,
+                () -> paymentIdempotencyService.execute(" ", payment, createPayment));
+
+        assertEquals(400, exception.getHttpStatus());
+        verifyNoInteractions(paymentIdempotencyRepository);
+    }
+
+    @Test
+    void execute_KeyTooLong_ThrowsBadRequest() {
+        PaymentManagementException exception = assertThrows(PaymentManagementException.class,
+                () -> paymentIdempotencyService.execute("k".repeat(101), payment, createPayment));
+
+        assertEquals(400, exception.getHttpStatus());
+    }
+
+    @Test
+    void execute_SameKeyFromAnotherUser_CreatesSeparatePayment() throws Exception {
+        // The first user already stored a response under this key.
+        lenient().when(paymentIdempotencyRepository.findByCreatedByAndIdempotencyKey(USER, KEY)).thenReturn(Optional.of(
+                new PaymentIdempotency(KEY, hashOf(payment), 7L, "{}", USER, 1L)));
+        runTransactionsInline();
+        authenticateAs("treasury");
+        when(paymentIdempotencyRepository.findByCreatedByAndIdempotencyKey("treasury", KEY)).thenReturn(Optional.empty());
+        when(paymentIdempotencyRepository.claimKey(eq(KEY), anyString(), eq("treasury"))).thenReturn(1);
+
+        PaymentLifeCycleManagementResponse response = paymentIdempotencyService.execute(KEY, payment, createPayment);
+
+        assertEquals("SUCCESS", response.getStatus());
+        assertEquals(1, creations.get());
+        verify(paymentIdempotencyRepository).storeResponse(eq("treasury"), eq(KEY), eq(42L), anyString());
+        verify(paymentIdempotencyRepository, never()).findByCreatedByAndIdempotencyKey(USER, KEY);
+    }
+
+    @Test
+    void purgeExpiredKeys_DeletesInBatchesUntilShortBatch() {
+        ReflectionTestUtils.setField(paymentIdempotencyService, "purgeBatchSize", 2);
+        runTransactionsInline();
+        long cutoffFloor = System.currentTimeMillis() - Duration.ofDays(7).toMillis();
+        when(paymentIdempotencyRepository.deleteCreatedBefore(anyLong(), eq(2))).thenReturn(2, 2, 1);
+
+        long purged = paymentIdempotencyService.purgeExpiredKeys();
+
+        assertEquals(5, purged);
+        verify(paymentIdempotencyRepository, times(3)).deleteCreatedBefore(longThat(cutoff -> cutoff >= cutoffFloor), eq(2));
+    }
+
+    @Test
+    void purgeExpiredKeys_ZeroRetention_KeepsEveryKey() {
+        ReflectionTestUtils.setField(paymentIdempotencyService, "retention", Duration.ZERO);
+
+        assertEquals(0, paymentIdempotencyService.purgeExpiredKeys());
+        verifyNoInteractions(paymentIdempotencyRepository, transactionTemplate);
+    }
+
+    @Test
+    void purgeOnSchedule_Exception_DoesNotPropagate() {
+        when(transactionTemplate.execute(any())).thenThrow(new RuntimeException("Database error"));
+
+        assertDoesNotThrow(() -> paymentIdempotencyService.purgeOnSchedule());
+    }
+
+    private void authenticateAs(String userName) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userName, null, List.of()));
+    }
+
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    private void storeResponseFromEarlierRequest() throws Exception {
+        String requestHash = hashOf(payment);
+        String responseBody = new ObjectMapper().writeValueAsString(createPayment.get());
+        creations.set(0);
+        payment.setId(null);
+        when(paymentIdempotencyRepository.findByCreatedByAndIdempotencyKey(USER, KEY)).thenReturn(Optional.of(
+                new PaymentIdempotency(KEY, requestHash, 42L, responseBody, "finance", 1L)));
+    }
+
+    private String hashOf(Payment request) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(new ObjectMapper().writeValueAsBytes(request));
+        return HexFormat.of().formatHex(digest);
+    }
+}
@@ -1,25 +1,45 @@
 package zeta.payments.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import zeta.payments.commons.money.Money;
+import zeta.payments.commons.enums.PaymentCategory;
+import zeta.payments.commons.enums.PaymentStatus;
 import zeta.payments.commons.enums.PaymentType;
+import zeta.payments.dto.report.MonthlyPaymentTotal;
+import zeta.payments.dto.request.PaymentSearchRequest;
+import zeta.payments.dto.response.PaymentBatchResponse;
 import zeta.payments.dto.response.PaymentLifeCycleManagementResponse;
 import zeta.payments.dto.response.ReportResponse;
 import zeta.payments.entity.Payment;
+import zeta.payments.entity.User;
 import zeta.payments.exception.PaymentManagementException;
+import zeta.payments.repository.PaymentDailyRollupRepository;
 import zeta.payments.repository.PaymentRepository;
 import zeta.payments.repository.UserRepository;
+import zeta.payments.service.PaymentIdempotencyService;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -31,6 +51,9 @@ class PaymentManagementServiceImplTest {
     @Mock
     private PaymentRepository paymentRepository;
 
+    @Mock
+    private PaymentDailyRollupRepository paymentDailyRollupRepository;
+
     @Mock
     private UserRepository userRepository;
 
@@ -40,26 +63,47 @@ class PaymentManagementServiceImplTest {
     @Mock
     private Authentication authentication;
 
-    @InjectMocks
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PaymentIdempotencyService paymentIdempotencyService;
+
     private PaymentManagementServiceImpl paymentManagementService;
 
     private Payment testPayment;
+    private MonthlyPaymentTotal testTotal;
     private Map<String, Double> exchangeRates;
 
     @BeforeEach
     void setUp() {
         exchangeRates = Map.of("USD", 83.0, "EUR", 90.0);
-        paymentManagementService = new PaymentManagementServiceImpl(exchangeRates);
-        org.springframework.test.util.ReflectionTestUtils.setField(paymentManagementService, "paymentRepository", paymentRepository);
-        org.springframework.test.util.ReflectionTestUtils.setField(paymentManagementService, "userRepository", userRepository);
+        paymentManagementService = newService("rollup");
 
         testPayment = new Payment();
         testPayment.setId(1L);
-        testPayment.setAmount("1000.0");
+        testPayment.setAmount(Money.parse("1000.0"));
         testPayment.setCurrency("INR");
         testPayment.setType(PaymentType.INCOMING);
         testPayment.setCreatedAt(System.currentTimeMillis());
         testPayment.setCreatedBy("testuser");
+
+        testTotal = new MonthlyPaymentTotal(2024, 1, PaymentType.INCOMING, "INR", 100000L);
+    }
+
+    private PaymentManagementServiceImpl newService(String reportSource) {
+        PaymentManagementServiceImpl service = new PaymentManagementServiceImpl(exchangeRates, 10000, Duration.ofSeconds(30), reportSource);
+        org.springframework.test.util.ReflectionTestUtils.setField(service, "paymentRepository", paymentRepository);
+        org.springframework.test.util.ReflectionTestUtils.setField(service, "paymentDailyRollupRepository", paymentDailyRollupRepository);
+        org.springframework.test.util.ReflectionTestUtils.setField(service, "userRepository", userRepository);
+        org.springframework.test.util.ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper());
+        org.springframework.test.util.ReflectionTestUtils.setField(service, "entityManager", entityManager);
+        org.springframework.test.util.ReflectionTestUtils.setField(service, "transactionTemplate", transactionTemplate);
+        org.springframework.test.util.ReflectionTestUtils.setField(service, "paymentIdempotencyService", paymentIdempotencyService);
+        return service;
     }
 
     @Test
@@ -87,6 +131,116 @@ class PaymentManagementServiceImplTest {
         assertEquals("FAILURE", exception.getStatus());
     }
 
+    @Test
+    void createPaymentRecord_WithIdempotencyKey_DelegatesToIdempotencyService() {
+        PaymentLifeCycleManagementResponse stored = PaymentLifeCycleManagementResponse.builder()
+                .message("Payment Created Successfully").status("SUCCESS").payments(List.of(testPayment)).build();
+        when(paymentIdempotencyService.execute(eq("key-1"), eq(testPayment), any())).thenReturn(stored);
+
+        PaymentLifeCycleManagementResponse response = paymentManagementService.createPaymentRecord(testPayment, "key-1");
+
+        assertSame(stored, response);
+        verify(paymentRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void createPaymentRecord_WithoutIdempotencyKey_CreatesDirectly() {
+        when(paymentRepository.saveAndFlush(testPayment)).thenReturn(testPayment);
+
+        PaymentLifeCycleManagementResponse response = paymentManagementService.createPaymentRecord(testPayment, null);
+
+        assertEquals("SUCCESS", response.getStatus());
+        verifyNoInteractions(paymentIdempotencyService);
+    }
+
+    // createPaymentRecords Tests
+    @Test
+    void createPaymentRecords_AllValid_InsertsInChunks() {
+        runTransactionsInline();
+        List<Payment> payments = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            payments.add(newBatchPayment("Employee " + i));
+        }
+        long[] nextId = {0};
+        when(paymentRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Payment> chunk = invocation.getArgument(0);
+            chunk.forEach(payment -> payment.setId(++nextId[0]));
+            return chunk;
+        });
+
+        PaymentBatchResponse response = paymentManagementService.createPaymentRecords(payments);
+
+        assertEquals("SUCCESS", response.getStatus());
+        assertEquals(1200, response.getCreated());
+        assertEquals(0, response.getFailed());
+        assertEquals(1200L, response.getResults().get(1199).getPaymentId());
+        verify(paymentRepository, times(3)).saveAll(anyList());
+        verify(paymentRepository, times(3)).flush();
+        verify(transactionTemplate, times(3)).executeWithoutResult(any());
+    }
+
+    @Test
+    void createPaymentRecords_InvalidItem_ReportedWithoutInsert() {
+        runTransactionsInline();
+        Payment invalid = newBatchPayment("Vendor");
+        invalid.setAmount(null);
+        List<Payment> payments = List.of(newBatchPayment("Employee"), invalid);
+        when(paymentRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Payment> chunk = invocation.getArgument(0);
+            chunk.forEach(payment -> payment.setId(10L));
+            return chunk;
+        });
+
+        PaymentBatchResponse response = paymentManagementService.createPaymentRecords(payments);
+
+        assertEquals("PARTIAL_SUCCESS", response.getStatus());
+        assertEquals(1, response.getCreated());
+        assertEquals("CREATED", response.getResults().get(0).getStatus());
+        assertEquals("FAILED", response.getResults().get(1).getStatus());
+        assertEquals("Amount must be positive", response.getResults().get(1).getMessage());
+        verify(paymentRepository).saveAll(List.of(payments.get(0)));
+    }
+
+    @Test
+    void createPaymentRecords_ChunkFails_RetriesIndividually() {
+        runTransactionsInline();
+        Payment good = newBatchPayment("Employee");
+        Payment bad = newBatchPayment("Duplicate");
+        when(paymentRepository.saveAll(anyList())).thenThrow(new RuntimeException("constraint violation"));
+        when(paymentRepository.saveAndFlush(good)).thenAnswer(invocation -> {
+            good.setId(7L);
+            return good;
+        });
+        when(paymentRepository.saveAndFlush(bad)).thenThrow(new RuntimeException("constraint violation"));
+
+        PaymentBatchResponse response = paymentManagementService.createPaymentRecords(List.of(good, bad));
+
+        assertEquals("PARTIAL_SUCCESS", response.getStatus());
+        assertEquals(7L, response.getResults().get(0).getPaymentId());
+        assertEquals("FAILED", response.getResults().get(1).getStatus());
+        assertNull(bad.getId());
+    }
+
+    @Test
+    void createPaymentRecords_EmptyBatch_ThrowsBadRequest() {
+        PaymentManagementException exception = assertThrows(PaymentManagementException.class,
+                () -> paymentManagementService.createPaymentRecords(List.of()));
+
+        assertEquals(400, exception.getHttpStatus());
+        verifyNoInteractions(paymentRepository);
+    }
+
+    @Test
+    void createPaymentRecords_TooLarge_ThrowsBadRequest() {
+        List<Payment> payments = Collections.nCopies(5001, testPayment);
+
+        PaymentManagementException exception = assertThrows(PaymentManagementException.class,
+                () -> paymentManagementService.createPaymentRecords(payments));
+
+        assertEquals(400, exception.getHttpStatus());
+        verifyNoInteractions(paymentRepository);
+    }
+
     @Test
     void updatePayment_Success() {
         when(paymentRepository.findById(1L)).thenReturn(Optional.of(testPayment));
@@ -144,20 +298,15 @@ class PaymentManagementServiceImplTest {
 
     @Test
     void generateMonthlyReport_Success() {
-        List<Payment> payments = Arrays.asList(testPayment);
-        when(paymentRepository.findPaymentsBetween(anyLong(), anyLong())).thenReturn(payments);
-
-        try (MockedStatic<zeta.payments.util.DateUtil> dateUtil = mockStatic(zeta.payments.util.DateUtil.class)) {
-            dateUtil.when(() -> zeta.payments.util.DateUtil.convertEpochToDateAndReturnMonth(anyLong()))
-                    .thenReturn("January");
+        List<MonthlyPaymentTotal> totals = List.of(testTotal);
+        when(paymentDailyRollupRepository.sumPaymentsByMonth(any(LocalDate.class), any(LocalDate.class))).thenReturn(totals);
 
-            ReportResponse response = paymentManagementService.generateMonthlyReport(1L, 2024L);
+        ReportResponse response = paymentManagementService.generateMonthlyReport(1L, 2024L);
 
-            assertNotNull(response);
-            assertEquals("MONTHLY", response.getReportType());
-            assertEquals("SUCCESS", response.getStatus());
-            assertNotNull(response.getReportData());
-        }
+        assertNotNull(response);
+        assertEquals("MONTHLY", response.getReportType());
+        assertEquals("SUCCESS", response.getStatus());
+        assertNotNull(response.getReportData());
     }
 
     @Test
@@ -183,7 +332,7 @@ class PaymentManagementServiceImplTest {
 
     @Test
     void generateMonthlyReport_NoPayments() {
-        when(paymentRepository.findPaymentsBetween(anyLong(), anyLong())).thenReturn(Collections.emptyList());
+        when(paymentDailyRollupRepository.sumPaymentsByMonth(any(LocalDate.class), any(LocalDate.class))).thenReturn(Collections.emptyList());
 
         ReportResponse response = paymentManagementService.generateMonthlyReport(1L, 2024L);
 
@@ -195,67 +344,47 @@ class PaymentManagementServiceImplTest {
 
     @Test
     void generateQuarterlyReport_Quarter1() {
-        List<Payment> payments = Arrays.asList(testPayment);
-        when(paymentRepository.findPaymentsBetween(anyLong(), anyLong())).thenReturn(payments);
-
-        try (MockedStatic<zeta.payments.util.DateUtil> dateUtil = mockStatic(zeta.payments.util.DateUtil.class)) {
-            dateUtil.when(() -> zeta.payments.util.DateUtil.convertEpochToDateAndReturnMonth(anyLong()))
-                    .thenReturn("January");
+        List<MonthlyPaymentTotal> totals = List.of(testTotal);
+        when(paymentDailyRollupRepository.sumPaymentsByMonth(any(LocalDate.class), any(LocalDate.class))).thenReturn(totals);
 
-            ReportResponse response = paymentManagementService.generateQuarterlyReport(1L, 2024L);
+        ReportResponse response = paymentManagementService.generateQuarterlyReport(1L, 2024L);
 
-            assertNotNull(response);
-            assertEquals("QUARTERLY", response.getReportType());
-            assertEquals("SUCCESS", response.getStatus());
-        }
+        assertNotNull(response);
+        assertEquals("QUARTERLY", response.getReportType());
+        assertEquals("SUCCESS", response.getStatus());
     }
 
     @Test
     void generateQuarterlyReport_Quarter2() {
-        List<Payment> payments = Arrays.asList(testPayment);
-        when(paymentRepository.findPaymentsBetween(anyLong(), anyLong())).thenReturn(payments);
+        List<MonthlyPaymentTotal> totals = List.of(testTotal);
+        when(paymentDailyRollupRepository.sumPaymentsByMonth(any(LocalDate.class), any(LocalDate.class))).thenReturn(totals);
 
-        try (MockedStatic<zeta.payments.util.DateUtil> dateUtil = mockStatic(zeta.payments.util.DateUtil.class)) {
-            dateUtil.when(() -> zeta.payments.util.DateUtil.convertEpochToDateAndReturnMonth(anyLong()))
-                    .thenReturn("April");
+        ReportResponse response = paymentManagementService.generateQuarterlyReport(2L, 2024L);
 
-            ReportResponse response = paymentManagementService.generateQuarterlyReport(2L, 2024L);
-
-            assertNotNull(response);
-            assertEquals("QUARTERLY", response.getReportType());
-        }
+        assertNotNull(response);
+        assertEquals("QUARTERLY", response.getReportType());
     }
 
     @Test
     void generateQuarterlyReport_Quarter3() {
-        List<Payment> payments = Arrays.asList(testPayment);
-        when(paymentRepository.findPaymentsBetween(anyLong(), anyLong())).thenReturn(payments);
+        List<MonthlyPaymentTotal> totals = List.of(testTotal);
+        when(paymentDailyRollupRepository.sumPaymentsByMonth(any(LocalDate.class), any(LocalDate.class))).thenReturn(totals);
 
-        try (MockedStatic<zeta.payments.util.DateUtil> dateUtil = mockStatic(zeta.payments.util.DateUtil.class)) {
-            dateUtil.when(() -> zeta.payments.util.DateUtil.convertEpochToDateAndReturnMonth(anyLong()))
-                    .thenReturn("July");
+        ReportResponse response = paymentManagementService.generateQuarterlyReport(3L, 2024L);
 
-            ReportResponse response = paymentManagementService.generateQuarterlyReport(3L, 2024L);
-
-            assertNotNull(response);
-            assertEquals("QUARTERLY", response.getReportType());
-        }
+        assertNotNull(response);
+        assertEquals("QUARTERLY", response.getReportType());
     }
 
     @Test
     void generateQuarterlyReport_Quarter4() {
-        List<Payment> payments = Arrays.asList(testPayment);
-        when(paymentRepository.findPaymentsBetween(anyLong(), anyLong())).thenReturn(payments);
-
-        try (MockedStatic<zeta.payments.util.DateUtil> dateUtil = mockStatic(zeta.payments.util.DateUtil.class)) {
-            dateUtil.when(() -> zeta.payments.util.DateUtil.convertEpochToDateAndReturnMonth(anyLong()))
-                    .thenReturn("October");
+        List<MonthlyPaymentTotal> totals = List.of(testTotal);
+        when(paymentDailyRollupRepository.sumPaymentsByMonth(any(LocalDate.class), any(LocalDate.class))).thenReturn(totals);
 
-            ReportResponse response = paymentManagementService.generateQuarterlyReport(4L, 2024L);
+        ReportResponse response = paymentManagementService.generateQuarterlyReport(4L, 2024L);
 
-            assertNotNull(response);
-            assertEquals("QUARTERLY", response.getReportType());
-        }
+        assertNotNull(response);
+        assertEquals("QUARTERLY", response.getReportType());
     }
 
     @Test
@@ -269,24 +398,72 @@ class PaymentManagementServiceImplTest {
     }
 
     @Test
-    void getAllPayment_Success() {
+    void getPayments_Success() {
         List<Payment> payments = Arrays.asList(testPayment);
-        when(paymentRepository.findAll()).thenReturn(payments);
+        when(paymentRepository.findPaymentsAfter(eq(0L), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                eq(Limit.of(51)))).thenReturn(payments);
 
-        PaymentLifeCycleManagementResponse response = paymentManagementService.getAllPayment();
+        PaymentLifeCycleManagementResponse response = paymentManagementService.getPayments(PaymentSearchRequest.builder().build());
 
         assertNotNull(response);
         assertEquals("Payments Fetched Successfully", response.getMessage());
         assertEquals("SUCCESS", response.getStatus());
         assertEquals(1, response.getPayments().size());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    void getPayments_FullPage_ReturnsNextCursor() {
+        Payment second = new Payment();
+        second.setId(2L);
+        Payment third = new Payment();
+        third.setId(3L);
+        when(paymentRepository.findPaymentsAfter(eq(0L), eq(PaymentStatus.PENDING), isNull(), isNull(), eq("USD"),
+                isNull(), isNull(), eq(Limit.of(3)))).thenReturn(Arrays.asList(testPayment, second, third));
+
+        PaymentLifeCycleManagementResponse response = paymentManagementService.getPayments(PaymentSearchRequest.builder()
+                .limit(2)
+                .status(PaymentStatus.PENDING)
+                .currency("usd")
+                .build());
+
+        assertEquals(2, response.getPayments().size());
+        assertEquals(2L, response.getNextCursor());
     }
 
     @Test
-    void getAllPayment_Exception() {
-        when(paymentRepository.findAll()).thenThrow(new RuntimeException("Database error"));
+    void getPayments_UsesCursorAsKeysetBound() {
+        when(paymentRepository.findPaymentsAfter(eq(100L), isNull(), isNull(), isNull(), isNull(), eq(10L), eq(20L),
+                eq(Limit.of(11)))).thenReturn(Collections.emptyList());
+
+        PaymentLifeCycleManagementResponse response = paymentManagementService.getPayments(PaymentSearchRequest.builder()
+                .after(100L)
+                .limit(10)
+                .createdFrom(10L)
+                .createdTo(20L)
+                .build());
+
+        assertTrue(response.getPayments().isEmpty());
+        assertNull(response.getNextCursor());
+    }
 
+    @Test
+    void getPayments_InvalidLimit() {
         PaymentManagementException exception = assertThrows(PaymentManagementException.class,
-                () -> paymentManagementService.getAllPayment());
+                () -> paymentManagementService.getPayments(PaymentSearchRequest.builder().limit(0).build()));
+
+        assertEquals(400, exception.getHttpStatus());
+        assertEquals("FAILURE", exception.getStatus());
+        verifyNoInteractions(paymentRepository);
+    }
+
+    @Test
+    void getPayments_Exception() {
+        when(paymentRepository.findPaymentsAfter(anyLong(), any(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(new RuntimeException("Database error"));
+
+        PaymentManagementException exception = assertThrows(PaymentManagementException.class,
+                () -> paymentManagementService.getPayments(PaymentSearchRequest.builder().build()));
 
         assertEquals(500, exception.getHttpStatus());
         assertEquals("Internal Server Error", exception.getMessage());
@@ -329,6 +506,69 @@ class PaymentManagementServiceImplTest {
         assertEquals("FAILURE", exception.getStatus());
     }
 
+    @Test
+    void getPaymentById_RepeatedRead_ServedFromCache() {
+        when(paymentRepository.findById(1L)).thenReturn(Optional.of(testPayment));
+
+        Payment first = paymentManagementService.getPaymentById(1L).getPayments().get(0);
+        PaymentLifeCycleManagementResponse response = paymentManagementService.getPaymentById(1L);
+
+        assertSame(first, response.getPayments().get(0));
+        assertEquals(testPayment, first);
+        verify(paymentRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void getPaymentById_CachesCopyWithoutUser() {
+        testPayment.setUser(new User());
+        when(paymentRepository.findById(1L)).thenReturn(Optional.of(testPayment));
+
+        Payment cached = paymentManagementService.getPaymentById(1L).getPayments().get(0);
+
+        assertNotSame(testPayment, cached);
+        assertNull(cached.getUser());
+        assertEquals(testPayment, cached);
+    }
+
+    @Test
+    void getPaymentById_PaymentNotFound_NotCached() {
+        when(paymentRepository.findById(1L)).thenReturn(Optional.empty(), Optional.of(testPayment));
+
+        assertThrows(PaymentManagementException.class, () -> paymentManagementService.getPaymentById(1L));
+        PaymentLifeCycleManagementResponse response = paymentManagementService.getPaymentById(1L);
+
+        assertEquals(1, response.getPayments().size());
+        verify(paymentRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void updatePayment_EvictsCachedPayment() {
+        when(paymentRepository.findById(1L)).thenReturn(Optional.of(testPayment));
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.getName()).thenReturn("updatedUser");
+        paymentManagementService.getPaymentById(1L);
+
+        try (MockedStatic<SecurityContextHolder> securityContextHolder = mockStatic(SecurityContextHolder.class)) {
+            securityContextHolder.when(SecurityContextHolder::getContext).thenReturn(securityContext);
+            paymentManagementService.updatePayment("1", testPayment);
+        }
+        paymentManagementService.getPaymentById(1L);
+
+        // One read for the first fetch, one inside updatePayment and one after the eviction.
+        verify(paymentRepository, times(3)).findById(1L);
+    }
+
+    @Test
+    void deletePaymentById_EvictsCachedPayment() {
+        when(paymentRepository.findById(1L)).thenReturn(Optional.of(testPayment));
+        paymentManagementService.getPaymentById(1L);
+
+        paymentManagementService.deletePaymentById(1L);
+        when(paymentRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(PaymentManagementException.class, () -> paymentManagementService.getPaymentById(1L));
+    }
+
     @Test
     void deletePaymentById_Success() {
         when(paymentRepository.findById(1L)).thenReturn(Optional.of(testPayment));
@@ -379,76 +619,180 @@ class PaymentManagementServiceImplTest {
         assertEquals("FAILURE", exception.getStatus());
     }
 
+    @Test
+    void exportPayments_WritesOnePaymentPerLine() {
+        Payment second = new Payment();
+        second.setId(2L);
+        second.setAmount(Money.parse("20.0"));
+        when(paymentRepository.streamAllPayments()).thenReturn(Stream.of(testPayment, second));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        paymentManagementService.exportPayments(outputStream);
+
+        String[] lines = outputStream.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"id\":1,"));
+        assertTrue(lines[1].contains("\"id\":2,"));
+        verify(entityManager).detach(testPayment);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    void exportPayments_Exception() {
+        when(paymentRepository.streamAllPayments()).thenThrow(new RuntimeException("Database error"));
+
+        PaymentManagementException exception = assertThrows(PaymentManagementException.class,
+                () -> paymentManagementService.exportPayments(OutputStream.nullOutputStream()));
+
+        assertEquals(500, exception.getHttpStatus());
+        assertEquals("Internal Server Error", exception.getMessage());
+    }
+
     @Test
     void buildReport_WithIncomingAndOutgoingPayments() {
-        Payment incomingPayment = new Payment();
-        incomingPayment.setAmount("1000.0");
-        incomingPayment.setCurrency("USD");
-        incomingPayment.setType(PaymentType.INCOMING);
-        incomingPayment.setCreatedAt(System.currentTimeMillis());
+        List<MonthlyPaymentTotal> totals = List.of(
+                total(2024, 1, PaymentType.INCOMING, "USD", "1000.0"),
+                total(2024, 1, PaymentType.OUTGOING, "INR", "500.0"));
+        when(paymentDailyRollupRepository.sumPaymentsByMonth(any(LocalDate.class), any(LocalDate.class))).thenReturn(totals);
+
+        ReportResponse response = paymentManagementService.generateMonthlyReport(1L, 2024L);
+
+        assertNotNull(response);
+        assertEquals("CREDIT", response.getBalanceType()); // More incoming than outgoing
+        assertTrue(response.getTotalNetBalance() > 0);
+    }
 
-        Payment outgoingPayment = new Payment();
-        outgoingPayment.setAmount("500.0");
-        outgoingPayment.setCurrency("INR");
-        outgoingPayment.setType(PaymentType.OUTGOING);
-        outgoingPayment.setCreatedAt(System.currentTimeMillis());
+    @Test
+    void buildReport_ConvertsEachMonthlyTotal() {
+        List<MonthlyPaymentTotal> totals = List.of(
+                total(2024, 1, PaymentType.INCOMING, "INR", "1000.0"),
+                total(2024, 1, PaymentType.INCOMING, "USD", "10.0"),
+                total(2024, 2, PaymentType.OUTGOING, "INR", "300.0"));
+        when(paymentDailyRollupRepository.sumPaymentsByMonth(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 31)))
+                .thenReturn(totals);
+
+        ReportResponse response = paymentManagementService.generateQuarterlyReport(1L, 2024L);
+
+        assertEquals(List.of("January", "February"), new ArrayList<>(response.getReportData().keySet()));
+        assertEquals(1830.0, response.getReportData().get("January").inComingPayments);
+        assertEquals(300.0, response.getReportData().get("February").outGoingPayments);
+        assertEquals(1530.0, response.getTotalNetBalance());
+        assertEquals("CREDIT", response.getBalanceType());
+    }
 
-        List<Payment> payments = Arrays.asList(incomingPayment, outgoingPayment);
-        when(paymentRepository.findPaymentsBetween(anyLong(), anyLong())).thenReturn(payments);
+    @Test
+    void buildReport_ScanSource_MatchesRollupReport() {
+        paymentManagementService = newService("scan");
+        when(paymentRepository.findPaymentsBetween(anyLong(), anyLong())).thenReturn(Stream.of(
+                payment(LocalDate.of(2024, 1, 5), PaymentType.INCOMING, "INR", "1000.0"),
+                payment(LocalDate.of(2024, 1, 31), PaymentType.INCOMING, "USD", "10.0"),
+                payment(LocalDate.of(2024, 2, 1), PaymentType.OUTGOING, "INR", "300.0")));
+
+        ReportResponse response = paymentManagementService.generateQuarterlyReport(1L, 2024L);
+
+        assertEquals(List.of("January", "February"), new ArrayList<>(response.getReportData().keySet()));
+        assertEquals(1830.0, response.getReportData().get("January").inComingPayments);
+        assertEquals(300.0, response.getReportData().get("February").outGoingPayments);
+        assertEquals(1530.0, response.getTotalNetBalance());
+        assertEquals("CREDIT", response.getBalanceType());
+        verify(entityManager, times(3)).detach(any(Payment.class));
+        verifyNoInteractions(paymentDailyRollupRepository);
+    }
 
-        try (MockedStatic<zeta.payments.util.DateUtil> dateUtil = mockStatic(zeta.payments.util.DateUtil.class)) {
-            dateUtil.when(() -> zeta.payments.util.DateUtil.convertEpochToDateAndReturnMonth(anyLong()))
-                    .thenReturn("January");
+    @Test
+    void buildReport_ScanSource_SkipsPaymentsWithoutAmount() {
+        paymentManagementService = newService("scan");
+        Payment notBackfilled = payment(LocalDate.of(2024, 1, 10), PaymentType.INCOMING, "INR", "500.0");
+        notBackfilled.setAmount(null);
+        when(paymentRepository.findPaymentsBetween(anyLong(), anyLong())).thenReturn(Stream.of(
+                payment(LocalDate.of(2024, 1, 5), PaymentType.INCOMING, "INR", "1000.0"),
+                notBackfilled));
 
-            ReportResponse response = paymentManagementService.generateMonthlyReport(1L, 2024L);
+        ReportResponse response = paymentManagementService.generateQuarterlyReport(1L, 2024L);
 
-            assertNotNull(response);
-            assertEquals("CREDIT", response.getBalanceType()); // More incoming than outgoing
-            assertTrue(response.getTotalNetBalance() > 0);
-        }
+        assertEquals("SUCCESS", response.getStatus());
+        assertEquals(1000.0, response.getReportData().get("January").inComingPayments);
+        verify(entityManager, times(2)).detach(any(Payment.class));
     }
 
     @Test
-    void convertToINR_WithUSDCurrency() {
-        // Test currency conversion functionality through report generation
-        Payment usdPayment = new Payment();
-        usdPayment.setAmount("100.0");
-        usdPayment.setCurrency("USD");
-        usdPayment.setType(PaymentType.INCOMING);
-        usdPayment.setCreatedAt(System.currentTimeMillis());
+    void buildReport_ScanSource_GroupsByUtcMonth() {
+        paymentManagementService = newService("scan");
+        Payment lastMinuteOfJanuary = payment(LocalDate.of(2024, 1, 31), PaymentType.INCOMING, "INR", "100.0");
+        lastMinuteOfJanuary.setCreatedAt(Instant.parse("2024-01-31T23:59:00Z").toEpochMilli());
+        when(paymentRepository.findPaymentsBetween(anyLong(), anyLong())).thenReturn(Stream.of(lastMinuteOfJanuary));
 
-        List<Payment> payments = Arrays.asList(usdPayment);
-        when(paymentRepository.findPaymentsBetween(anyLong(), anyLong())).thenReturn(payments);
+        ReportResponse response = paymentManagementService.generateQuarterlyReport(1L, 2024L);
 
-        try (MockedStatic<zeta.payments.util.DateUtil> dateUtil = mockStatic(zeta.payments.util.DateUtil.class)) {
-            dateUtil.when(() -> zeta.payments.util.DateUtil.convertEpochToDateAndReturnMonth(anyLong()))
-                    .thenReturn("January");
+        assertEquals(List.of("January"), new ArrayList<>(response.getReportData().keySet()));
+    }
 
-            ReportResponse response = paymentManagementService.generateMonthlyReport(1L, 2024L);
+    @Test
+    void buildReport_ScanSource_QueriesWholePeriod() {
+        paymentManagementService = newService("scan");
+        ZoneOffset zone = ZoneOffset.UTC;
+        long start = LocalDate.of(2024, 2, 1).atStartOfDay(zone).toInstant().toEpochMilli();
+        long end = LocalDate.of(2024, 3, 1).atStartOfDay(zone).toInstant().toEpochMilli() - 1;
+        when(paymentRepository.findPaymentsBetween(start, end)).thenReturn(Stream.empty());
 
-            assertNotNull(response);
-            // USD 100 * 83 = INR 8300, so total should reflect this conversion
-            assertTrue(response.getTotalNetBalance() > 8000);
-        }
+        ReportResponse response = paymentManagementService.generateMonthlyReport(2L, 2024L);
+
+        assertEquals("No Payments Found for the specified period", response.getMessage());
+        assertNull(response.getReportData());
+    }
+
+    @Test
+    void convertToINR_WithUSDCurrency() {
+        // Test currency conversion functionality through report generation
+        List<MonthlyPaymentTotal> totals = List.of(total(2024, 1, PaymentType.INCOMING, "USD", "100.0"));
+        when(paymentDailyRollupRepository.sumPaymentsByMonth(any(LocalDate.class), any(LocalDate.class))).thenReturn(totals);
+
+        ReportResponse response = paymentManagementService.generateMonthlyReport(1L, 2024L);
+
+        assertNotNull(response);
+        // USD 100 * 83 = INR 8300, so total should reflect this conversion
+        assertTrue(response.getTotalNetBalance() > 8000);
     }
 
     @Test
     void convertToINR_WithUnsupportedCurrency() {
-        Payment unknownCurrencyPayment = new Payment();
-        unknownCurrencyPayment.setAmount("100.0");
-        unknownCurrencyPayment.setCurrency("XYZ");
-        unknownCurrencyPayment.setType(PaymentType.INCOMING);
-        unknownCurrencyPayment.setCreatedAt(System.currentTimeMillis());
+        List<MonthlyPaymentTotal> totals = List.of(total(2024, 1, PaymentType.INCOMING, "XYZ", "100.0"));
+        when(paymentDailyRollupRepository.sumPaymentsByMonth(any(LocalDate.class), any(LocalDate.class))).thenReturn(totals);
 
-        List<Payment> payments = Arrays.asList(unknownCurrencyPayment);
-        when(paymentRepository.findPaymentsBetween(anyLong(), anyLong())).thenReturn(payments);
+        assertThrows(IllegalArgumentException.class,
+                () -> paymentManagementService.generateMonthlyReport(1L, 2024L));
+    }
 
-        try (MockedStatic<zeta.payments.util.DateUtil> dateUtil = mockStatic(zeta.payments.util.DateUtil.class)) {
-            dateUtil.when(() -> zeta.payments.util.DateUtil.convertEpochToDateAndReturnMonth(anyLong()))
-                    .thenReturn("January");
+    private static Payment payment(LocalDate day, PaymentType type, String currency, String amount) {
+        Payment payment = new Payment();
+        payment.setCreatedAt(day.atTime(12, 0).toInstant(ZoneOffset.UTC).toEpochMilli());
+        payment.setType(type);
+        payment.setCurrency(currency);
+        payment.setAmount(Money.parse(amount));
+        return payment;
+    }
 
-            assertThrows(IllegalArgumentException.class,
-                    () -> paymentManagementService.generateMonthlyReport(1L, 2024L));
-        }
+    private static MonthlyPaymentTotal total(int year, int month, PaymentType type, String currency, String amount) {
+        return new MonthlyPaymentTotal(year, month, type, currency, Money.parse(amount).getMinorUnits());
+    }
+
+    private void runTransactionsInline() {
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private Payment newBatchPayment(String accountName) {
+        Payment payment = new Payment();
+        payment.setAmount(Money.parse("2500.00"));
+        payment.setCurrency("INR");
+        payment.setType(PaymentType.OUTGOING);
+        payment.setCategory(PaymentCategory.SALARY);
+        payment.setStatus(PaymentStatus.PENDING);
+        payment.setAccountName(accountName);
+        payment.setCreatedBy("finance");
+        return payment;
     }
 }
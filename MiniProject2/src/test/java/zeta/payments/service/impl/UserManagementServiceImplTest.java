@@ -4,17 +4,19 @@ package zeta.payments.service.impl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 import zeta.payments.commons.enums.UserRole;
 import zeta.payments.dto.response.UserLifeCycleManagementResponse;
 import zeta.payments.entity.User;
 import zeta.payments.exception.PaymentManagementException;
 import zeta.payments.repository.UserRepository;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -29,13 +31,19 @@ class UserManagementServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
-    @InjectMocks
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
     private UserManagementServiceImpl userManagementService;
 
     private User testUser;
 
     @BeforeEach
     void setUp() {
+        userManagementService = new UserManagementServiceImpl(10000, Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(userManagementService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(userManagementService, "passwordEncoder", passwordEncoder);
+
         testUser = new User();
         testUser.setUserName("testuser");
         testUser.setPassword("plainPassword");
@@ -179,19 +187,15 @@ class UserManagementServiceImplTest {
         when(userRepository.getUserByUserName("testuser")).thenReturn(Optional.of(testUser));
         when(userRepository.updateUserPassword(eq("testuser"), anyString())).thenReturn(1);
 
-        try (var mockPasswordUtil = mockStatic(zeta.payments.util.PasswordUtil.class)) {
-            mockPasswordUtil.when(() -> zeta.payments.util.PasswordUtil.checkPassword("oldPassword", "$2a$10$hashedPassword"))
-                    .thenReturn(true);
-            mockPasswordUtil.when(() -> zeta.payments.util.PasswordUtil.hashPassword("newPassword"))
-                    .thenReturn("$2a$10$newHashedPassword");
+        when(passwordEncoder.matches("oldPassword", "$2a$10$hashedPassword")).thenReturn(true);
+        when(passwordEncoder.encode("newPassword")).thenReturn("$2a$10$newHashedPassword");
 
-            UserLifeCycleManagementResponse response = userManagementService.updateUserPassword("testuser", "oldPassword", "newPassword");
+        UserLifeCycleManagementResponse response = userManagementService.updateUserPassword("testuser", "oldPassword", "newPassword");
 
-            assertNotNull(response);
-            assertEquals("Password updated successfully", response.getMessage());
-            assertEquals("SUCCESS", response.getStatus());
-            assertEquals(1, response.getUsers().size());
-        }
+        assertNotNull(response);
+        assertEquals("Password updated successfully", response.getMessage());
+        assertEquals("SUCCESS", response.getStatus());
+        assertEquals(1, response.getUsers().size());
     }
 
     @Test
@@ -211,17 +215,14 @@ class UserManagementServiceImplTest {
         testUser.setPassword("$2a$10$hashedPassword");
         when(userRepository.getUserByUserName("testuser")).thenReturn(Optional.of(testUser));
 
-        try (var mockPasswordUtil = mockStatic(zeta.payments.util.PasswordUtil.class)) {
-            mockPasswordUtil.when(() -> zeta.payments.util.PasswordUtil.checkPassword("wrongPassword", "$2a$10$hashedPassword"))
-                    .thenReturn(false);
+        when(passwordEncoder.matches("wrongPassword", "$2a$10$hashedPassword")).thenReturn(false);
 
-            PaymentManagementException exception = assertThrows(PaymentManagementException.class,
-                    () -> userManagementService.updateUserPassword("testuser", "wrongPassword", "newPassword"));
+        PaymentManagementException exception = assertThrows(PaymentManagementException.class,
+                () -> userManagementService.updateUserPassword("testuser", "wrongPassword", "newPassword"));
 
-            assertEquals(400, exception.getHttpStatus());
-            assertEquals("Password is incorrect", exception.getMessage());
-            assertEquals("FAILURE", exception.getStatus());
-        }
+        assertEquals(400, exception.getHttpStatus());
+        assertEquals("Password is incorrect", exception.getMessage());
+        assertEquals("FAILURE", exception.getStatus());
     }
 
     @Test
@@ -230,19 +231,15 @@ class UserManagementServiceImplTest {
         when(userRepository.getUserByUserName("testuser")).thenReturn(Optional.of(testUser));
         when(userRepository.updateUserPassword(eq("testuser"), anyString())).thenReturn(0);
 
-        try (var mockPasswordUtil = mockStatic(zeta.payments.util.PasswordUtil.class)) {
-            mockPasswordUtil.when(() -> zeta.payments.util.PasswordUtil.checkPassword("oldPassword", "$2a$10$hashedPassword"))
-                    .thenReturn(true);
-            mockPasswordUtil.when(() -> zeta.payments.util.PasswordUtil.hashPassword("newPassword"))
-                    .thenReturn("$2a$10$newHashedPassword");
+        when(passwordEncoder.matches("oldPassword", "$2a$10$hashedPassword")).thenReturn(true);
+        when(passwordEncoder.encode("newPassword")).thenReturn("$2a$10$newHashedPassword");
 
-            PaymentManagementException exception = assertThrows(PaymentManagementException.class,
-                    () -> userManagementService.updateUserPassword("testuser", "oldPassword", "newPassword"));
+        PaymentManagementException exception = assertThrows(PaymentManagementException.class,
+                () -> userManagementService.updateUserPassword("testuser", "oldPassword", "newPassword"));
 
-            assertEquals(500, exception.getHttpStatus());
-            assertEquals("Internal Server Error", exception.getMessage());
-            assertEquals("FAILURE", exception.getStatus());
-        }
+        assertEquals(500, exception.getHttpStatus());
+        assertEquals("Internal Server Error", exception.getMessage());
+        assertEquals("FAILURE", exception.getStatus());
     }
 
     @Test
@@ -266,4 +263,44 @@ class UserManagementServiceImplTest {
         assertEquals("User not found: testuser", exception.getMessage());
         verify(userRepository).getUserByUserName("testuser");
     }
+
+    @Test
+    void loadUserByUsername_RepeatedLookup_ServedFromCache() {
+        when(userRepository.getUserByUserName("testuser")).thenReturn(Optional.of(testUser));
+
+        UserDetails first = userManagementService.loadUserByUsername("testuser");
+        UserDetails second = userManagementService.loadUserByUsername("testuser");
+
+        assertSame(first, second);
+        assertNull(((User) first).getPayments());
+        verify(userRepository, times(1)).getUserByUserName("testuser");
+    }
+
+    @Test
+    void updateUserRole_EvictsCachedPrincipal() {
+        when(userRepository.getUserByUserName("testuser")).thenReturn(Optional.of(testUser));
+        when(userRepository.updateUserRole("testuser", UserRole.ADMIN)).thenReturn(1);
+        userManagementService.loadUserByUsername("testuser");
+
+        userManagementService.updateUserRole("testuser", UserRole.ADMIN);
+        userManagementService.loadUserByUsername("testuser");
+
+        verify(userRepository, times(2)).getUserByUserName("testuser");
+    }
+
+    @Test
+    void updateUserPassword_EvictsCachedPrincipal() {
+        testUser.setPassword("$2a$10$hashedPassword");
+        when(userRepository.getUserByUserName("testuser")).thenReturn(Optional.of(testUser));
+        when(userRepository.updateUserPassword(eq("testuser"), anyString())).thenReturn(1);
+        userManagementService.loadUserByUsername("testuser");
+
+        when(passwordEncoder.matches("oldPassword", "$2a$10$hashedPassword")).thenReturn(true);
+        when(passwordEncoder.encode("newPassword")).thenReturn("$2a$10$newHashedPassword");
+        userManagementService.updateUserPassword("testuser", "oldPassword", "newPassword");
+        userManagementService.loadUserByUsername("testuser");
+
+        // The first login, the old-password check and the reload after eviction.
+        verify(userRepository, times(3)).getUserByUserName("testuser");
+    }
 }
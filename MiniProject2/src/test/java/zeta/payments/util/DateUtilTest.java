@@ -6,7 +6,9 @@ import org.junit.jupiter.api.BeforeEach;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -152,7 +154,6 @@ class DateUtilTest {
         String result = DateUtil.convertEpochToDateAndReturnMonth(epochMillis);
 
         assertEquals("January", result);
-        assertTrue(outContent.toString().contains("Formatted Date:"));
     }
 
     @Test
@@ -163,7 +164,6 @@ class DateUtilTest {
         String result = DateUtil.convertEpochToDateAndReturnMonth(epochMillis);
 
         assertEquals("February", result);
-        assertTrue(outContent.toString().contains("Formatted Date:"));
     }
 
     @Test
@@ -174,7 +174,6 @@ class DateUtilTest {
         String result = DateUtil.convertEpochToDateAndReturnMonth(epochMillis);
 
         assertEquals("March", result);
-        assertTrue(outContent.toString().contains("Formatted Date:"));
     }
 
     @Test
@@ -185,7 +184,6 @@ class DateUtilTest {
         String result = DateUtil.convertEpochToDateAndReturnMonth(epochMillis);
 
         assertEquals("April", result);
-        assertTrue(outContent.toString().contains("Formatted Date:"));
     }
 
     @Test
@@ -196,7 +194,6 @@ class DateUtilTest {
         String result = DateUtil.convertEpochToDateAndReturnMonth(epochMillis);
 
         assertEquals("May", result);
-        assertTrue(outContent.toString().contains("Formatted Date:"));
     }
 
     @Test
@@ -207,7 +204,6 @@ class DateUtilTest {
         String result = DateUtil.convertEpochToDateAndReturnMonth(epochMillis);
 
         assertEquals("June", result);
-        assertTrue(outContent.toString().contains("Formatted Date:"));
     }
 
     @Test
@@ -218,7 +214,6 @@ class DateUtilTest {
         String result = DateUtil.convertEpochToDateAndReturnMonth(epochMillis);
 
         assertEquals("July", result);
-        assertTrue(outContent.toString().contains("Formatted Date:"));
     }
 
     @Test
@@ -229,7 +224,6 @@ class DateUtilTest {
         String result = DateUtil.convertEpochToDateAndReturnMonth(epochMillis);
 
         assertEquals("August", result);
-        assertTrue(outContent.toString().contains("Formatted Date:"));
     }
 
     @Test
@@ -240,7 +234,6 @@ class DateUtilTest {
         String result = DateUtil.convertEpochToDateAndReturnMonth(epochMillis);
 
         assertEquals("September", result);
-        assertTrue(outContent.toString().contains("Formatted Date:"));
     }
 
     @Test
@@ -251,7 +244,6 @@ class DateUtilTest {
         String result = DateUtil.convertEpochToDateAndReturnMonth(epochMillis);
 
         assertEquals("October", result);
-        assertTrue(outContent.toString().contains("Formatted Date:"));
     }
 
     @Test
@@ -262,7 +254,6 @@ class DateUtilTest {
         String result = DateUtil.convertEpochToDateAndReturnMonth(epochMillis);
 
         assertEquals("November", result);
-        assertTrue(outContent.toString().contains("Formatted Date:"));
     }
 
     @Test
@@ -273,7 +264,6 @@ class DateUtilTest {
         String result = DateUtil.convertEpochToDateAndReturnMonth(epochMillis);
 
         assertEquals("December", result);
-        assertTrue(outContent.toString().contains("Formatted Date:"));
     }
 
     @Test
@@ -283,7 +273,6 @@ class DateUtilTest {
         String result = DateUtil.convertEpochToDateAndReturnMonth(epochMillis);
 
         assertEquals("January", result);
-        assertTrue(outContent.toString().contains("Formatted Date:"));
     }
 
     @Test
@@ -293,7 +282,6 @@ class DateUtilTest {
         String result = DateUtil.convertEpochToDateAndReturnMonth(epochMillis);
 
         assertEquals("December", result);
-        assertTrue(outContent.toString().contains("Formatted Date:"));
     }
 
     @Test
@@ -304,7 +292,6 @@ class DateUtilTest {
         String result = DateUtil.convertEpochToDateAndReturnMonth(epochMillis);
 
         assertEquals("June", result);
-        assertTrue(outContent.toString().contains("Formatted Date:"));
     }
 
     @Test
@@ -315,19 +302,96 @@ class DateUtilTest {
         String result = DateUtil.convertEpochToDateAndReturnMonth(epochMillis);
 
         assertEquals("February", result);
-        assertTrue(outContent.toString().contains("Formatted Date:"));
     }
 
     @Test
-    void convertEpochToDateAndReturnMonth_VerifyConsoleOutput() {
+    void convertEpochToDateAndReturnMonth_WritesNothingToConsole() {
         LocalDate date = LocalDate.of(2024, 5, 15);
         long epochMillis = date.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
 
         DateUtil.convertEpochToDateAndReturnMonth(epochMillis);
 
-        String output = outContent.toString();
-        assertTrue(output.contains("Formatted Date:"));
-        assertTrue(output.contains("15/05/24"));
+        assertEquals("", outContent.toString());
+    }
+
+    @Test
+    void convertEpochToDateAndReturnMonth_ReturnsSameLabelInstance() {
+        long march = LocalDate.of(2024, 3, 10).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+        long laterMarch = LocalDate.of(2023, 3, 20).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+
+        assertSame(DateUtil.convertEpochToDateAndReturnMonth(march), DateUtil.convertEpochToDateAndReturnMonth(laterMarch));
+    }
+
+    // Bucket Tests
+    @Test
+    void monthBucket_MatchesLocalDateAcrossYears() {
+        ZoneId zone = ZoneId.systemDefault();
+        for (LocalDate date = LocalDate.of(1899, 12, 25); date.isBefore(LocalDate.of(2101, 1, 10)); date = date.plusDays(7)) {
+            long epochMillis = date.atTime(12, 0).atZone(zone).toInstant().toEpochMilli();
+
+            int bucket = DateUtil.monthBucket(epochMillis);
+
+            assertEquals(date.getYear(), DateUtil.yearOfMonthBucket(bucket), date.toString());
+            assertEquals(date.getMonthValue(), DateUtil.monthOfMonthBucket(bucket), date.toString());
+        }
+    }
+
+    @Test
+    void monthBucket_UsesDefaultZoneAtMonthBoundary() {
+        ZoneId zone = ZoneId.systemDefault();
+        long startOfApril = LocalDate.of(2024, 4, 1).atStartOfDay(zone).toInstant().toEpochMilli();
+
+        assertEquals(DateUtil.monthBucket(2024, 3), DateUtil.monthBucket(startOfApril - 1));
+        assertEquals(DateUtil.monthBucket(2024, 4), DateUtil.monthBucket(startOfApril));
+    }
+
+    @Test
+    void monthBucket_AlternatingAcrossDstTransition_MatchesZonedDate() {
+        // Berlin moves from +01:00 to +02:00 at 2024-03-31T01:00Z; both instants are 00:30 local time.
+        ZoneId berlin = ZoneId.of("Europe/Berlin");
+        long beforeTransition = Instant.parse("2024-03-30T23:30:00Z").toEpochMilli();
+        long afterTransition = Instant.parse("2024-03-31T22:30:00Z").toEpochMilli();
+
+        for (int i = 0; i < 1_000; i++) {
+            long epochMillis = i % 2 == 0 ? beforeTransition : afterTransition;
+            LocalDate expected = Instant.ofEpochMilli(epochMillis).atZone(berlin).toLocalDate();
+
+            assertEquals(expected.toEpochDay(), DateUtil.dayBucket(epochMillis, berlin));
+            assertEquals(DateUtil.monthBucket(expected.getYear(), expected.getMonthValue()),
+                    DateUtil.monthBucket(epochMillis, berlin));
+            assertEquals(DateUtil.monthBucket(2024, 3), DateUtil.monthBucket(epochMillis, ZoneOffset.UTC));
+        }
+    }
+
+    @Test
+    void monthBucket_ConsecutiveMonthsHaveConsecutiveIds() {
+        assertEquals(DateUtil.monthBucket(2024, 12) + 1, DateUtil.monthBucket(2025, 1));
+    }
+
+    @Test
+    void dayBucket_MatchesLocalDateEpochDay() {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate date = LocalDate.of(2024, 2, 29);
+        long epochMillis = date.atTime(23, 59).atZone(zone).toInstant().toEpochMilli();
+
+        assertEquals(date.toEpochDay(), DateUtil.dayBucket(epochMillis));
+    }
+
+    @Test
+    void quarterBucket_ReturnsQuarterOfYear() {
+        ZoneId zone = ZoneId.systemDefault();
+        long august = LocalDate.of(2024, 8, 15).atStartOfDay(zone).toInstant().toEpochMilli();
+
+        int bucket = DateUtil.quarterBucket(august);
+
+        assertEquals(2024 * 4 + 2, bucket);
+        assertEquals("Q3", DateUtil.quarterLabel(bucket));
+    }
+
+    @Test
+    void monthLabel_ReturnsEnglishMonthName() {
+        assertEquals("January", DateUtil.monthLabel(DateUtil.monthBucket(2024, 1)));
+        assertEquals("December", DateUtil.monthLabel(DateUtil.monthBucket(1969, 12)));
     }
 
     // Integration tests combining both methods
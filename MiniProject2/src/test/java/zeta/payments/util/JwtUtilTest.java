@@ -1,5 +1,6 @@
 package zeta.payments.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
@@ -25,9 +26,7 @@ class JwtUtilTest {
 
     @BeforeEach
     void setUp() {
-        jwtUtil = new JwtUtil();
-        ReflectionTestUtils.setField(jwtUtil, "secret", validSecret);
-        ReflectionTestUtils.setField(jwtUtil, "expiration", validExpiration);
+        jwtUtil = new JwtUtil(validSecret, validExpiration, 10000);
     }
 
     // getSigningKey Tests
@@ -40,10 +39,8 @@ class JwtUtilTest {
 
     @Test
     void getSigningKey_SecretTooShort_ThrowsException() {
-        ReflectionTestUtils.setField(jwtUtil, "secret", "short");
-
         IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
-            jwtUtil.generateToken(testUsername, testRole);
+            new JwtUtil("short", validExpiration, 10000);
         });
 
         assertEquals("JWT secret key must be at least 64 bytes for HS512 algorithm", exception.getMessage());
@@ -52,7 +49,7 @@ class JwtUtilTest {
     @Test
     void getSigningKey_ExactlyMinimumLength_Success() {
         String minimumSecret = "a".repeat(64); // Exactly 64 bytes
-        ReflectionTestUtils.setField(jwtUtil, "secret", minimumSecret);
+        jwtUtil = new JwtUtil(minimumSecret, validExpiration, 10000);
 
         String token = jwtUtil.generateToken(testUsername, testRole);
 
@@ -131,7 +128,7 @@ class JwtUtilTest {
 
     @Test
     void extractUsername_ExpiredToken_ThrowsException() {
-        ReflectionTestUtils.setField(jwtUtil, "expiration", -1000L); // Expired immediately
+        jwtUtil = new JwtUtil(validSecret, -1000L, 10000); // Expired immediately
         String expiredToken = jwtUtil.generateToken(testUsername, testRole);
 
         assertThrows(ExpiredJwtException.class, () -> {
@@ -346,10 +343,10 @@ class JwtUtilTest {
     @Test
     void integrationTest_DifferentExpirationTimes() {
         // Test with different expiration
-        ReflectionTestUtils.setField(jwtUtil, "expiration", 5000L); // 5 seconds
+        jwtUtil = new JwtUtil(validSecret, 5000L, 10000); // 5 seconds
         String shortToken = jwtUtil.generateToken(testUsername, testRole);
 
-        ReflectionTestUtils.setField(jwtUtil, "expiration", 10000L); // 10 seconds
+        jwtUtil = new JwtUtil(validSecret, 10000L, 10000); // 10 seconds
         String longToken = jwtUtil.generateToken(testUsername, testRole);
 
         Date shortExpiration = jwtUtil.extractExpiration(shortToken);
@@ -357,4 +354,52 @@ class JwtUtilTest {
 
         assertTrue(longExpiration.after(shortExpiration));
     }
+
+    // verifyToken Tests
+    @Test
+    void verifyToken_RepeatedCalls_ParsesOnceAndServesFromCache() {
+        String token = jwtUtil.generateToken(testUsername, testRole);
+
+        Claims first = jwtUtil.verifyToken(token);
+        Claims second = jwtUtil.verifyToken(token);
+        jwtUtil.extractUsername(token);
+        jwtUtil.extractRole(token);
+        jwtUtil.validateToken(token, testUsername);
+
+        assertSame(first, second);
+        assertEquals(testUsername, first.getSubject());
+        assertEquals(1, jwtUtil.getCacheStats().missCount());
+        assertEquals(4, jwtUtil.getCacheStats().hitCount());
+        assertEquals(1, jwtUtil.getCacheSize());
+    }
+
+    @Test
+    void verifyToken_TamperedToken_IsNotCached() {
+        String token = jwtUtil.generateToken(testUsername, testRole);
+        String tamperedToken = token.substring(0, token.length() - 5) + "XXXXX";
+
+        assertThrows(SignatureException.class, () -> jwtUtil.verifyToken(tamperedToken));
+        assertEquals(0, jwtUtil.getCacheSize());
+    }
+
+    @Test
+    void verifyToken_ExpiredToken_IsRejectedAndNotCached() {
+        jwtUtil = new JwtUtil(validSecret, -1000L, 10000);
+        String expiredToken = jwtUtil.generateToken(testUsername, testRole);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verifyToken(expiredToken));
+        assertEquals(0, jwtUtil.getCacheSize());
+    }
+
+    @Test
+    void verifyToken_CacheBoundedByMaximumSize() {
+        jwtUtil = new JwtUtil(validSecret, validExpiration, 2);
+
+        for (int i = 0; i < 10; i++) {
+            jwtUtil.verifyToken(jwtUtil.generateToken(testUsername + i, testRole));
+        }
+        ((Cache<?, ?>) ReflectionTestUtils.getField(jwtUtil, "verifiedTokens")).cleanUp();
+
+        assertTrue(jwtUtil.getCacheSize() <= 2);
+    }
 }
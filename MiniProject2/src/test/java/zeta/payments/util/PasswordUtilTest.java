@@ -1,7 +1,8 @@
 package zeta.payments.util;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
-import org.mindrot.jbcrypt.BCrypt;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -200,8 +201,8 @@ class PasswordUtilTest {
     @Test
     void checkPassword_ExternallyGeneratedHash_ReturnsTrue() {
         String plainPassword = "testpassword";
-        // Pre-generated BCrypt hash for "testpassword"
-        String externalHash = BCrypt.hashpw(plainPassword, BCrypt.gensalt());
+        // Pre-generated jbcrypt hash for "testpassword", as stored before the switch to Spring's BCrypt
+        String externalHash = "$2a$10$423UgX1qvnBOsvjSSlrtN.5AQXZVQuLJEROSVrvFdGCC5GyQqKo3y";
 
         boolean result = PasswordUtil.checkPassword(plainPassword, externalHash);
 
@@ -269,4 +270,21 @@ class PasswordUtilTest {
         assertFalse(PasswordUtil.checkPassword("SecurePassword123!", hash));
         assertFalse(PasswordUtil.checkPassword("securePassword123!!", hash));
     }
-}
\ No newline at end of file
+
+    @Test
+    void checkPassword_RecordsBcryptVerifyTimer() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        try {
+            String hashedPassword = PasswordUtil.hashPassword("password123");
+
+            PasswordUtil.checkPassword("password123", hashedPassword);
+
+            assertEquals(1, registry.get(PasswordUtil.BCRYPT_TIMER).tag("operation", "verify").timer().count());
+            assertEquals(1, registry.get(PasswordUtil.BCRYPT_TIMER).tag("operation", "hash").timer().count());
+            assertEquals(1, registry.get(PasswordUtil.BCRYPT_TIMER).tag("cost", "10").tag("operation", "hash").timer().count());
+        } finally {
+            Metrics.removeRegistry(registry);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package zeta.payments.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import zeta.payments.util.DateUtil;
+
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateUtilBenchmark {
+
+    private static final long JAN_2024 = 1704067200000L;
+    private static final long DAY = 86_400_000L;
+    // 00:30 local time on either side of Berlin's 2024-03-31T01:00Z switch to summer time.
+    private static final long BEFORE_BERLIN_DST = 1711841400000L;
+    private static final long AFTER_BERLIN_DST = 1711924200000L;
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+
+    private int day;
+
+    @Benchmark
+    public String convertEpochToDateAndReturnMonth() {
+        day = (day + 1) % 366;
+        return DateUtil.convertEpochToDateAndReturnMonth(JAN_2024 + day * DAY);
+    }
+
+    @Benchmark
+    public int monthBucketAlternatingAcrossDst() {
+        day++;
+        return DateUtil.monthBucket((day & 1) == 0 ? BEFORE_BERLIN_DST : AFTER_BERLIN_DST, BERLIN);
+    }
+}
@@ -0,0 +1,145 @@
+package zeta.payments.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Closed-loop HTTP load generator for comparing the service with and without the "virtual" profile: each
+ * client keeps exactly one request in flight for the whole run. Needs a running service and a bearer token;
+ * see the README for the full procedure.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar zeta.payments.benchmarks.HttpLoadTest \
+ *     --url http://localhost:8080/api/v1/payments?limit=50 --token &lt;jwt&gt; --clients 2000 --duration 60
+ * </pre>
+ */
+public class HttpLoadTest {
+
+    private static final int MAX_TRACKED_MILLIS = 30_000;
+
+    private final HttpClient client;
+    private final HttpRequest request;
+    private final AtomicLongArray latencyMillis = new AtomicLongArray(MAX_TRACKED_MILLIS + 1);
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile boolean recording;
+    private volatile boolean running = true;
+
+    private HttpLoadTest(String url, String token) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).GET();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        this.request = builder.build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String url = options.getOrDefault("url", "http://localhost:8080/api/v1/payments?limit=50");
+        int clients = Integer.parseInt(options.getOrDefault("clients", "2000"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "60"));
+
+        HttpLoadTest loadTest = new HttpLoadTest(url, options.get("token"));
+        CompletableFuture<?>[] loops = new CompletableFuture<?>[clients];
+        for (int i = 0; i < clients; i++) {
+            loops[i] = loadTest.startClient();
+        }
+
+        Thread.sleep(warmupSeconds * 1000L);
+        loadTest.recording = true;
+        long start = System.nanoTime();
+        Thread.sleep(durationSeconds * 1000L);
+        loadTest.recording = false;
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        loadTest.running = false;
+        CompletableFuture.allOf(loops).orTimeout(60, TimeUnit.SECONDS).exceptionally(e -> null).join();
+
+        loadTest.report(url, clients, elapsedSeconds);
+    }
+
+    private CompletableFuture<Void> startClient() {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        loop(done);
+        return done;
+    }
+
+    private void loop(CompletableFuture<Void> done) {
+        if (!running) {
+            done.complete(null);
+            return;
+        }
+        long sent = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    record(sent, response, error);
+                    loop(done);
+                });
+    }
+
+    private void record(long sentNanos, HttpResponse<Void> response, Throwable error) {
+        if (!recording) {
+            return;
+        }
+        if (error != null || response.statusCode() >= 500 && response.statusCode() != 503) {
+            failed.incrementAndGet();
+            return;
+        }
+        if (response.statusCode() == 503) {
+            rejected.incrementAndGet();
+            return;
+        }
+        long millis = Math.min((System.nanoTime() - sentNanos) / 1_000_000, MAX_TRACKED_MILLIS);
+        latencyMillis.incrementAndGet((int) millis);
+        completed.incrementAndGet();
+    }
+
+    private void report(String url, int clients, double elapsedSeconds) {
+        System.out.printf("url=%s clients=%d duration=%.1fs%n", url, clients, elapsedSeconds);
+        System.out.printf("completed=%d rejected(503)=%d failed=%d%n", completed.get(), rejected.get(), failed.get());
+        System.out.printf("throughput=%.1f req/s%n", completed.get() / elapsedSeconds);
+        System.out.printf("latency p50=%dms p95=%dms p99=%dms max=%dms%n",
+                percentile(0.50), percentile(0.95), percentile(0.99), percentile(1.0));
+    }
+
+    private long percentile(double quantile) {
+        long total = completed.get();
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(total * quantile));
+        long seen = 0;
+        for (int millis = 0; millis <= MAX_TRACKED_MILLIS; millis++) {
+            seen += latencyMillis.get(millis);
+            if (seen >= target) {
+                return millis;
+            }
+        }
+        return MAX_TRACKED_MILLIS;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected --option value pairs, got: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+}
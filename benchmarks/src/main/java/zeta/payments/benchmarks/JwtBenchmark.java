@@ -0,0 +1,64 @@
+package zeta.payments.benchmarks;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import zeta.payments.util.JwtUtil;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuing and the per-request verification done by JwtAuthenticationFilter, both on a cache hit and
+ * when every request carries a token the cache has not seen.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private static final int DISTINCT_TOKENS = 4096;
+
+    private JwtUtil jwtUtil;
+    private JwtUtil smallCacheJwtUtil;
+    private String token;
+    private String[] distinctTokens;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = newJwtUtil(10_000);
+        smallCacheJwtUtil = newJwtUtil(16);
+        token = jwtUtil.generateToken("benchmark-user", "ADMIN");
+        distinctTokens = new String[DISTINCT_TOKENS];
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            distinctTokens[i] = smallCacheJwtUtil.generateToken("benchmark-user-" + i, "VIEWER");
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("benchmark-user", "ADMIN");
+    }
+
+    @Benchmark
+    public Claims verifyToken_CacheHit() {
+        return jwtUtil.verifyToken(token);
+    }
+
+    @Benchmark
+    public Claims verifyToken_CacheMiss() {
+        next = (next + 1) % DISTINCT_TOKENS;
+        return smallCacheJwtUtil.verifyToken(distinctTokens[next]);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token, "benchmark-user");
+    }
+
+    private static JwtUtil newJwtUtil(long cacheMaximumSize) {
+        return new JwtUtil("benchmark-secret-".repeat(8), 3_600_000L, cacheMaximumSize);
+    }
+}
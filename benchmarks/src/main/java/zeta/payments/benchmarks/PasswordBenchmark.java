@@ -0,0 +1,34 @@
+package zeta.payments.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import zeta.payments.util.PasswordUtil;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordBenchmark {
+
+    private static final String PASSWORD = "benchmark-password";
+
+    private String hashedPassword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        hashedPassword = PasswordUtil.hashPassword(PASSWORD);
+    }
+
+    @Benchmark
+    public String hashPassword() {
+        return PasswordUtil.hashPassword(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean checkPassword() {
+        return PasswordUtil.checkPassword(PASSWORD, hashedPassword);
+    }
+}
@@ -0,0 +1,110 @@
+package zeta.payments.benchmarks;
+
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import zeta.payments.commons.enums.PaymentType;
+import zeta.payments.commons.money.Money;
+import zeta.payments.dto.report.MonthlyPaymentTotal;
+import zeta.payments.dto.response.ReportResponse;
+import zeta.payments.entity.Payment;
+import zeta.payments.repository.PaymentDailyRollupRepository;
+import zeta.payments.repository.PaymentRepository;
+import zeta.payments.service.impl.PaymentManagementServiceImpl;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generating a quarterly report from each report source. The rollup source folds pre-grouped tuples; the scan
+ * source streams one entity per payment through the same accumulator. Both are spread over three months, both
+ * payment types and several currencies, and read from in-memory stand-ins for the repositories.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReportBenchmark {
+
+    private static final String[] CURRENCIES = {"INR", "USD", "EUR", "GBP"};
+
+    @Param({"10000", "100000", "1000000"})
+    private int payments;
+
+    private PaymentManagementServiceImpl rollupService;
+    private PaymentManagementServiceImpl scanService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        SplittableRandom random = new SplittableRandom(42);
+        List<MonthlyPaymentTotal> totals = new ArrayList<>(payments);
+        List<Payment> rows = new ArrayList<>(payments);
+        for (int i = 0; i < payments; i++) {
+            int month = 1 + (i * 3 / payments);
+            PaymentType type = random.nextBoolean() ? PaymentType.INCOMING : PaymentType.OUTGOING;
+            String currency = CURRENCIES[random.nextInt(CURRENCIES.length)];
+            long amountMinor = random.nextLong(1, 10_000_000);
+            totals.add(new MonthlyPaymentTotal(2024, month, type, currency, amountMinor));
+
+            Payment payment = new Payment();
+            payment.setCreatedAt(LocalDate.of(2024, month, 1 + random.nextInt(28))
+                    .atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli());
+            payment.setType(type);
+            payment.setCurrency(currency);
+            payment.setAmount(Money.ofMinor(amountMinor));
+            rows.add(payment);
+        }
+
+        rollupService = newService("rollup");
+        setField(rollupService, "paymentDailyRollupRepository", stub(PaymentDailyRollupRepository.class,
+                "sumPaymentsByMonth", args -> totals));
+
+        scanService = newService("scan");
+        setField(scanService, "paymentRepository", stub(PaymentRepository.class,
+                "findPaymentsBetween", args -> rows.stream()));
+        setField(scanService, "entityManager", stub(EntityManager.class, "detach", args -> null));
+    }
+
+    @Benchmark
+    public ReportResponse rollupQuarterlyReport() {
+        return rollupService.generateQuarterlyReport(1L, 2024L);
+    }
+
+    @Benchmark
+    public ReportResponse scanQuarterlyReport() {
+        return scanService.generateQuarterlyReport(1L, 2024L);
+    }
+
+    private static PaymentManagementServiceImpl newService(String reportSource) {
+        return new PaymentManagementServiceImpl(Map.of("USD", 83.0, "EUR", 90.0, "GBP", 105.0, "INR", 1.0),
+                10000, Duration.ofSeconds(30), reportSource);
+    }
+
+    private interface Answer {
+        Object answer(Object[] args);
+    }
+
+    private static <T> T stub(Class<T> type, String methodName, Answer answer) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getName().equals(methodName)) {
+                return answer.answer(args);
+            }
+            throw new UnsupportedOperationException(method.getName());
+        }));
+    }
+
+    private static void setField(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
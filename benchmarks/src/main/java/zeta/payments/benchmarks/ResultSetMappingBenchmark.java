@@ -0,0 +1,114 @@
+package zeta.payments.benchmarks;
+
+import org.example.model.Money;
+import org.example.model.enums.PaymentCategory;
+import org.example.model.enums.PaymentStatus;
+import org.example.model.enums.PaymentType;
+import org.example.repository.jdbc.dao.Payment;
+import org.example.repository.jdbc.impl.PaymentRepositoryImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping payment_details rows into MiniProject1 Payment objects. {@code indexed} is the repository's mapper;
+ * {@code byName} is the previous mapper kept here as a baseline: columns looked up by name, enum columns read
+ * twice and decoded with valueOf. Rows come from an in-memory CachedRowSet with the repository's column order.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultSetMappingBenchmark {
+
+    private static final String[] COLUMNS = {"payment_id", "user_name", "account_name", "amount_minor", "currency",
+            "payment_type", "category", "status", "created_at", "updated_at"};
+    private static final String[] CURRENCIES = {"INR", "USD", "EUR", "GBP"};
+
+    @Param({"1000"})
+    private int rows;
+
+    private CachedRowSet resultSet;
+    private MethodHandle mapResultSetToPayment;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        mapResultSetToPayment = MethodHandles.privateLookupIn(PaymentRepositoryImpl.class, MethodHandles.lookup())
+                .findStatic(PaymentRepositoryImpl.class, "mapResultSetToPayment",
+                        MethodType.methodType(Payment.class, ResultSet.class));
+
+        RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+        metaData.setColumnCount(COLUMNS.length);
+        for (int i = 0; i < COLUMNS.length; i++) {
+            metaData.setColumnName(i + 1, COLUMNS[i]);
+            metaData.setColumnLabel(i + 1, COLUMNS[i]);
+            boolean numeric = COLUMNS[i].equals("amount_minor") || COLUMNS[i].endsWith("_at");
+            metaData.setColumnType(i + 1, numeric ? Types.BIGINT : Types.VARCHAR);
+        }
+
+        SplittableRandom random = new SplittableRandom(42);
+        resultSet = RowSetProvider.newFactory().createCachedRowSet();
+        resultSet.setMetaData(metaData);
+        for (int i = 0; i < rows; i++) {
+            long createdAt = 1_700_000_000_000L + random.nextLong(1, 10_000_000_000L);
+            resultSet.moveToInsertRow();
+            resultSet.updateString(1, "PAY" + i);
+            resultSet.updateString(2, "user" + random.nextInt(100));
+            resultSet.updateString(3, "account" + random.nextInt(1000));
+            resultSet.updateLong(4, random.nextLong(1, 10_000_000));
+            resultSet.updateString(5, CURRENCIES[random.nextInt(CURRENCIES.length)]);
+            resultSet.updateString(6, PaymentType.values()[random.nextInt(PaymentType.values().length)].name());
+            resultSet.updateString(7, PaymentCategory.values()[random.nextInt(PaymentCategory.values().length)].name());
+            resultSet.updateString(8, PaymentStatus.values()[random.nextInt(PaymentStatus.values().length)].name());
+            resultSet.updateLong(9, createdAt);
+            resultSet.updateLong(10, createdAt);
+            resultSet.insertRow();
+        }
+        resultSet.moveToCurrentRow();
+    }
+
+    @Benchmark
+    public void indexed(Blackhole blackhole) throws Throwable {
+        resultSet.beforeFirst();
+        while (resultSet.next()) {
+            blackhole.consume((Payment) mapResultSetToPayment.invokeExact((ResultSet) resultSet));
+        }
+    }
+
+    @Benchmark
+    public void byName(Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        while (resultSet.next()) {
+            blackhole.consume(mapByName(resultSet));
+        }
+    }
+
+    private static Payment mapByName(ResultSet rs) throws SQLException {
+        Payment payment = new Payment();
+        payment.setId(rs.getString("payment_id"));
+        payment.setUserName(rs.getString("user_name"));
+        long amount = rs.getLong("amount_minor");
+        payment.setAmount(rs.wasNull() ? null : Money.ofMinor(amount));
+        payment.setAccountName(rs.getString("account_name"));
+        payment.setCategory(rs.getString("category") != null ? PaymentCategory.valueOf(rs.getString("category")) : null);
+        payment.setStatus(rs.getString("status") != null ? PaymentStatus.valueOf(rs.getString("status")) : null);
+        payment.setType(rs.getString("payment_type") != null ? PaymentType.valueOf(rs.getString("payment_type")) : null);
+        payment.setCurrency(rs.getString("currency"));
+        payment.setCreatedAt(rs.getLong("created_at"));
+        payment.setUpdatedAt(rs.getLong("updated_at"));
+        return payment;
+    }
+}
@@ -0,0 +1,63 @@
+package zeta.payments.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import zeta.payments.commons.enums.PaymentCategory;
+import zeta.payments.commons.enums.PaymentStatus;
+import zeta.payments.commons.enums.PaymentType;
+import zeta.payments.commons.money.Money;
+import zeta.payments.dto.response.PaymentLifeCycleManagementResponse;
+import zeta.payments.entity.Payment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialisation of a payments page, sized like the default and the maximum page of GET /payments.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"50", "500"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private PaymentLifeCycleManagementResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        List<Payment> payments = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Payment payment = new Payment();
+            payment.setId((long) i + 1);
+            payment.setAmount(Money.ofMinor(100_000L + i));
+            payment.setCurrency("INR");
+            payment.setCategory(PaymentCategory.INVOICE);
+            payment.setType(i % 2 == 0 ? PaymentType.INCOMING : PaymentType.OUTGOING);
+            payment.setStatus(PaymentStatus.COMPLETED);
+            payment.setAccountName("Account " + i);
+            payment.setCreatedBy("admin");
+            payment.setCreatedAt(1704067200000L + i);
+            payment.setUpdatedAt(1704067200000L + i);
+            payments.add(payment);
+        }
+        response = PaymentLifeCycleManagementResponse.builder()
+                .payments(payments)
+                .message("Payments Fetched Successfully")
+                .status("SUCCESS")
+                .nextCursor((long) pageSize)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializePaymentsPage() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}